@@ -1,5 +1,6 @@
 package com.starlettech.annotations;
 
+import com.starlettech.enums.BlockCategory;
 import com.starlettech.enums.BrowserType;
 
 import java.lang.annotation.ElementType;
@@ -16,4 +17,9 @@ public @interface Browser {
     BrowserType value() default BrowserType.CHROMIUM;
     boolean headless() default true;
     String[] args() default {};
+
+    /**
+     * Request categories to block, replacing browser.block; NONE disables blocking
+     */
+    BlockCategory[] block() default {};
 }
@@ -0,0 +1,18 @@
+package com.starlettech.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to share a HAR recording between tests, e.g. all tests of one page object
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Har {
+    /**
+     * HAR name relative to browser.har.path, without extension
+     */
+    String value();
+}
@@ -12,10 +12,36 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface PerformanceTest {
     /**
-     * Maximum acceptable response time in milliseconds
+     * Maximum acceptable response time in milliseconds, checked against the 99th percentile;
+     * ignored when p99ResponseTime is set, which then wins
      */
     long maxResponseTime() default 5000;
     
+    /**
+     * 90th percentile response time threshold in milliseconds (0 = not checked)
+     */
+    long p90ResponseTime() default 0;
+    
+    /**
+     * 95th percentile response time threshold in milliseconds (0 = not checked)
+     */
+    long p95ResponseTime() default 0;
+    
+    /**
+     * 99th percentile response time threshold in milliseconds (0 = maxResponseTime is used instead)
+     */
+    long p99ResponseTime() default 0;
+    
+    /**
+     * 99.9th percentile response time threshold in milliseconds (0 = not checked)
+     */
+    long p999ResponseTime() default 0;
+    
+    /**
+     * Maximum share of failed requests (percentage)
+     */
+    double maxErrorRate() default 100.0;
+    
     /**
      * Number of concurrent users/threads
      */
@@ -46,7 +72,19 @@ public @interface PerformanceTest {
      */
     PerformanceType type() default PerformanceType.LOAD;
     
+    /**
+     * How load is generated: NONE only records what the test reports via recordRequest,
+     * CLOSED runs the test body in a loop on concurrentUsers virtual users for duration seconds,
+     * OPEN starts it at a fixed arrival rate of expectedThroughput per second with at most
+     * concurrentUsers in flight; both are ramped according to type
+     */
+    LoadModel load() default LoadModel.NONE;
+    
     enum PerformanceType {
         LOAD, STRESS, SPIKE, VOLUME, ENDURANCE
     }
+    
+    enum LoadModel {
+        NONE, CLOSED, OPEN
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.starlettech.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare a page object's Locator field by selector; BasePage injects and validates it
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Selector {
+    /**
+     * Playwright selector, e.g. "#username", "text=Sign in" or "form >> button[type=submit]"
+     */
+    String value();
+}
@@ -1,14 +1,18 @@
 package com.starlettech.config;
 
+import com.starlettech.enums.BlockCategory;
 import com.starlettech.enums.BrowserType;
+import com.starlettech.enums.HarReplayMode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Browser Configuration class for managing browser settings
@@ -101,6 +105,107 @@ public class BrowserConfig {
         return getProperty("browser.trace.path", System.getProperty("user.dir") + "/traces");
     }
 
+    /**
+     * Keep each worker thread's browser open between tests, creating only a fresh context per test
+     */
+    public boolean isBrowserReuse() {
+        return Boolean.parseBoolean(getProperty("browser.reuse", "false"));
+    }
+
+    /**
+     * Share warm browsers between workers by browser type and group test methods by browser type;
+     * needs browser.reuse, and the grouping (not the sharing) is skipped when test.order is set
+     */
+    public boolean isBrowserAffinity() {
+        return Boolean.parseBoolean(getProperty("browser.affinity", "false"));
+    }
+
+    /**
+     * Request categories aborted in every context unless a test's @Browser(block = ...) overrides them
+     */
+    public Set<BlockCategory> getBlockCategories() {
+        Set<BlockCategory> categories = EnumSet.noneOf(BlockCategory.class);
+        for (String category : getProperty("browser.block", "").split(",")) {
+            if (!category.isBlank()) {
+                categories.add(BlockCategory.fromString(category));
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * Additional hosts (and their subdomains) whose requests are aborted
+     */
+    public List<String> getBlockHosts() {
+        return Arrays.stream(getProperty("browser.block.hosts", "").split(","))
+            .map(host -> host.trim().toLowerCase())
+            .filter(host -> !host.isEmpty())
+            .toList();
+    }
+
+    /**
+     * OFF, RECORD, REPLAY or AUTO (replay when a recording exists, record otherwise)
+     */
+    public HarReplayMode getHarMode() {
+        return HarReplayMode.fromString(getProperty("browser.har.mode", "OFF"));
+    }
+
+    public String getHarPath() {
+        return getProperty("browser.har.path", System.getProperty("user.dir") + "/src/test/resources/har");
+    }
+
+    /**
+     * Abort requests missing from a replayed HAR instead of sending them to the network
+     */
+    public boolean isHarStrict() {
+        return Boolean.parseBoolean(getProperty("browser.har.strict", "false"));
+    }
+
+    /**
+     * URL glob limiting which requests are recorded and replayed, empty for all
+     */
+    public String getHarUrlFilter() {
+        return getProperty("browser.har.url", "");
+    }
+
+    /**
+     * Serve static assets from a shared memory and disk cache instead of the network
+     */
+    public boolean isAssetCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("browser.asset.cache.enabled", "false"));
+    }
+
+    /**
+     * URL regular expressions of cacheable assets
+     */
+    public List<String> getAssetCachePatterns() {
+        String patterns = getProperty("browser.asset.cache.patterns",
+            "\\.(js|mjs|css|woff2?|ttf|otf|eot|png|jpe?g|gif|svg|ico|webp|avif)(\\?.*)?$");
+        return patterns.isBlank() ? List.of() : Arrays.asList(patterns.split(","));
+    }
+
+    public String getAssetCachePath() {
+        return getProperty("browser.asset.cache.path", System.getProperty("user.dir") + "/asset-cache");
+    }
+
+    public long getAssetCacheMemoryMb() {
+        return Long.parseLong(getProperty("browser.asset.cache.memory.mb", "64"));
+    }
+
+    /**
+     * Freshness of responses without Cache-Control max-age
+     */
+    public long getAssetCacheDefaultTtlSeconds() {
+        return Long.parseLong(getProperty("browser.asset.cache.default.ttl.seconds", "3600"));
+    }
+
+    /**
+     * Cache every matching response for the default TTL, e.g. for staging servers sending no-cache
+     */
+    public boolean isAssetCacheIgnoreCacheControl() {
+        return Boolean.parseBoolean(getProperty("browser.asset.cache.ignore.cache.control", "false"));
+    }
+
     private String getProperty(String key, String defaultValue) {
         return System.getProperty(key, properties.getProperty(key, defaultValue));
     }
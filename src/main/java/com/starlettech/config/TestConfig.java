@@ -1,11 +1,19 @@
 package com.starlettech.config;
 
 import com.starlettech.enums.Environment;
+import com.starlettech.enums.ImpactFallback;
+import com.starlettech.enums.ScreenshotFormat;
+import com.starlettech.enums.ScreenshotMode;
+import com.starlettech.enums.TestOrder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -53,6 +61,40 @@ public class TestConfig {
         return getProperty("base.url." + environment.name().toLowerCase(), "http://localhost:3000");
     }
 
+    /**
+     * API base URL of the current environment, falling back to the UI base URL
+     */
+    public String getApiBaseUrl() {
+        String apiBaseUrl = getProperty("api.base.url." + environment.name().toLowerCase(), "");
+        return apiBaseUrl.isBlank() ? getBaseUrl() : apiBaseUrl;
+    }
+
+    public int getApiTimeoutMs() {
+        return Integer.parseInt(getProperty("api.timeout.ms", "30000"));
+    }
+
+    /**
+     * Headers sent with every API request, from comma-separated Name:Value pairs
+     */
+    public Map<String, String> getApiHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String pair : getProperty("api.headers", "").split(",")) {
+            int separator = pair.indexOf(':');
+            if (separator > 0) {
+                headers.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    public String getApiAuthToken() {
+        return getProperty("api.auth.token", "");
+    }
+
+    public boolean isApiIgnoreHttpsErrors() {
+        return Boolean.parseBoolean(getProperty("api.ignore.https.errors", "false"));
+    }
+
     public int getImplicitWait() {
         return Integer.parseInt(getProperty("wait.implicit", "10"));
     }
@@ -65,6 +107,17 @@ public class TestConfig {
         return Integer.parseInt(getProperty("wait.pageload", "60"));
     }
 
+    /**
+     * First polling interval of JVM-side wait conditions; it grows by 1.5x per poll
+     */
+    public long getWaitPollInitialMs() {
+        return Long.parseLong(getProperty("wait.poll.initial.ms", "5"));
+    }
+
+    public long getWaitPollMaxMs() {
+        return Long.parseLong(getProperty("wait.poll.max.ms", "250"));
+    }
+
     public boolean isScreenshotOnFailure() {
         return Boolean.parseBoolean(getProperty("screenshot.on.failure", "true"));
     }
@@ -73,6 +126,34 @@ public class TestConfig {
         return getProperty("screenshot.path", System.getProperty("user.dir") + "/screenshots");
     }
 
+    public ScreenshotMode getScreenshotMode() {
+        return ScreenshotMode.fromString(getProperty("screenshot.mode", "FULL_PAGE"));
+    }
+
+    /**
+     * Screenshot mode for a test category, e.g. screenshot.mode.smoke=VIEWPORT
+     */
+    public ScreenshotMode getScreenshotMode(String category) {
+        String mode = getProperty("screenshot.mode." + category.toLowerCase(), null);
+        return mode != null ? ScreenshotMode.fromString(mode) : getScreenshotMode();
+    }
+
+    public ScreenshotFormat getScreenshotFormat() {
+        return ScreenshotFormat.fromString(getProperty("screenshot.format", "PNG"));
+    }
+
+    /**
+     * Screenshot format for a test category, e.g. screenshot.format.regression=JPEG
+     */
+    public ScreenshotFormat getScreenshotFormat(String category) {
+        String format = getProperty("screenshot.format." + category.toLowerCase(), null);
+        return format != null ? ScreenshotFormat.fromString(format) : getScreenshotFormat();
+    }
+
+    public int getScreenshotQuality() {
+        return Integer.parseInt(getProperty("screenshot.quality", "80"));
+    }
+
     public boolean isRetryEnabled() {
         return Boolean.parseBoolean(getProperty("retry.enabled", "true"));
     }
@@ -81,6 +162,7 @@ public class TestConfig {
         return Integer.parseInt(getProperty("retry.count", "2"));
     }
 
+
     public String getTestDataPath() {
         return getProperty("testdata.path", "src/test/resources/testdata");
     }
@@ -101,6 +183,205 @@ public class TestConfig {
         return Integer.parseInt(getProperty("thread.count", "1"));
     }
 
+    public boolean isAdaptiveParallelism() {
+        return Boolean.parseBoolean(getProperty("parallelism.adaptive", "false"));
+    }
+
+    public int getParallelismMin() {
+        return Integer.parseInt(getProperty("parallelism.min", "1"));
+    }
+
+    public int getParallelismMax() {
+        return Integer.parseInt(getProperty("parallelism.max", String.valueOf(getThreadCount())));
+    }
+
+    public double getParallelismCpuHigh() {
+        return Double.parseDouble(getProperty("parallelism.cpu.high", "0.85"));
+    }
+
+    public double getParallelismCpuLow() {
+        return Double.parseDouble(getProperty("parallelism.cpu.low", "0.60"));
+    }
+
+    public long getParallelismMinFreeMemoryMb() {
+        return Long.parseLong(getProperty("parallelism.memory.min.free.mb", "1024"));
+    }
+
+    /**
+     * Live browser processes per running test above which the limit does not grow,
+     * e.g. browsers still shutting down or leaked by earlier tests
+     */
+    public double getParallelismMaxBrowsersPerWorker() {
+        return Double.parseDouble(getProperty("parallelism.browsers.per.worker.max", "2.0"));
+    }
+
+    /**
+     * Expected memory footprint of one more browser, used before growing the limit
+     */
+    public long getParallelismBrowserMemoryMb() {
+        return Long.parseLong(getProperty("parallelism.browser.memory.mb", "512"));
+    }
+
+    public long getParallelismSampleIntervalMs() {
+        return Long.parseLong(getProperty("parallelism.sample.interval.ms", "2000"));
+    }
+
+    public boolean isMetricsExporterEnabled() {
+        return Boolean.parseBoolean(getProperty("metrics.exporter.enabled", "false"));
+    }
+
+    public String getMetricsExporterHost() {
+        return getProperty("metrics.exporter.host", "127.0.0.1");
+    }
+
+    public int getMetricsExporterPort() {
+        return Integer.parseInt(getProperty("metrics.exporter.port", "9464"));
+    }
+
+    /**
+     * Zero-based shard this JVM runs, e.g. -Dshard.index=0
+     */
+    public int getShardIndex() {
+        return Integer.parseInt(getProperty("shard.index", "0"));
+    }
+
+    /**
+     * Number of shards the suite is split into across JVMs or CI nodes, e.g. -Dshard.total=4
+     */
+    public int getShardTotal() {
+        return Integer.parseInt(getProperty("shard.total", "1"));
+    }
+
+    /**
+     * Duration snapshot every shard plans from, e.g. -Dshard.history=test-history/durations.json;
+     * empty balances shards by test count
+     */
+    public String getShardHistory() {
+        return getProperty("shard.history", "");
+    }
+
+    public TestOrder getTestOrder() {
+        return TestOrder.fromString(getProperty("test.order", "NONE"));
+    }
+
+    /**
+     * Number of previous runs in which a failure moves a test forward in FAIL_FAST order
+     */
+    public int getTestOrderFailureWindow() {
+        return Integer.parseInt(getProperty("test.order.failure.window", "5"));
+    }
+
+    /**
+     * Run only tests affected by changed files, e.g. for pull request builds
+     */
+    public boolean isImpactSelection() {
+        return Boolean.parseBoolean(getProperty("impact.selection", "false"));
+    }
+
+    /**
+     * Comma-separated changed files; when empty they are taken from git diff against impact.base.ref
+     */
+    public String getImpactChangedFiles() {
+        return getProperty("impact.changed.files", "");
+    }
+
+    public String getImpactBaseRef() {
+        return getProperty("impact.base.ref", "origin/main");
+    }
+
+    /**
+     * Glob patterns of changed files that never affect tests
+     */
+    public List<String> getImpactIgnorePatterns() {
+        String patterns = getProperty("impact.ignore", "**.md,docs/**,.github/**");
+        return patterns.isBlank() ? List.of() : Arrays.asList(patterns.split(","));
+    }
+
+    public int getImpactFailureWindow() {
+        return Integer.parseInt(getProperty("impact.failure.window", "3"));
+    }
+
+    /**
+     * Selection when no test history is available, e.g. on a fresh CI agent: ALL or IMPACTED
+     */
+    public ImpactFallback getImpactNoHistory() {
+        return ImpactFallback.fromString(getProperty("impact.no.history", "IMPACTED"));
+    }
+
+    public boolean isQuarantineEnabled() {
+        return Boolean.parseBoolean(getProperty("quarantine.enabled", "false"));
+    }
+
+    /**
+     * Flakiness score (0-1) at or above which a test is quarantined
+     */
+    public double getQuarantineThreshold() {
+        return Double.parseDouble(getProperty("quarantine.threshold", "0.3"));
+    }
+
+    public int getQuarantineWindow() {
+        return Integer.parseInt(getProperty("quarantine.window", "10"));
+    }
+
+    public int getQuarantineMinRuns() {
+        return Integer.parseInt(getProperty("quarantine.min.runs", "3"));
+    }
+
+    /**
+     * Weight factor per older run in the rolling flakiness score
+     */
+    public double getQuarantineDecay() {
+        return Double.parseDouble(getProperty("quarantine.decay", "0.8"));
+    }
+
+    /**
+     * Whether tests marked @TestCategory(isFlaky = true) are always quarantined
+     */
+    public boolean isQuarantineAnnotated() {
+        return Boolean.parseBoolean(getProperty("quarantine.annotated", "true"));
+    }
+
+    /**
+     * Whether @Selector fields of all page objects are validated when the suite starts
+     */
+    public boolean isSelectorValidationEnabled() {
+        return Boolean.parseBoolean(getProperty("selector.validation.enabled", "false"));
+    }
+
+    /**
+     * Packages scanned for BasePage subclasses by selector validation (comma-separated)
+     */
+    public List<String> getSelectorValidationPackages() {
+        String packages = getProperty("selector.validation.packages", "");
+        return packages.isBlank() ? List.of() : Arrays.stream(packages.split(",")).map(String::trim).toList();
+    }
+
+    /**
+     * Interval of the system metrics sampler running during @PerformanceTest tests
+     */
+    public long getPerformanceSampleIntervalMs() {
+        return Long.parseLong(getProperty("performance.sample.interval.ms", "1000"));
+    }
+
+    /**
+     * Whether load tests start one ApiClient session per virtual user before measuring
+     */
+    public boolean isPerformanceApiWarmUp() {
+        return Boolean.parseBoolean(getProperty("performance.api.warmup", "true"));
+    }
+
+    public boolean isHistoryEnabled() {
+        return Boolean.parseBoolean(getProperty("history.enabled", "true"));
+    }
+
+    public String getHistoryPath() {
+        return getProperty("history.path", System.getProperty("user.dir") + "/test-history");
+    }
+
+    public int getHistoryMaxRuns() {
+        return Integer.parseInt(getProperty("history.max.runs", "50"));
+    }
+
     private String getProperty(String key, String defaultValue) {
         return System.getProperty(key, properties.getProperty(key, defaultValue));
     }
@@ -0,0 +1,349 @@
+package com.starlettech.core;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.starlettech.config.TestConfig;
+
+/**
+ * Maps test classes to the source files they depend on and decides which are affected by a change set.
+ * Dependencies are read from the constant pools of compiled classes (type references in code,
+ * fields, signatures and annotations), followed transitively through classes loaded from
+ * directories, i.e. this project's page objects, helpers and framework code but not library jars.
+ * javac copies compile-time constants (static final primitives and Strings) into the classes that use
+ * them, leaving no reference behind, so changed classes declaring such constants are reported by
+ * {@link #findInlinedConstantSources} for the caller to treat as affecting every test.
+ */
+public class ImpactAnalyzer {
+    private static final Logger logger = LogManager.getLogger(ImpactAnalyzer.class);
+    private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([\\w/$]+);");
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final Map<String, ClassFile> classFiles = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Set<String>> sourceFiles = new ConcurrentHashMap<>();
+    private static volatile ChangeSet changeSet;
+
+    /**
+     * Files changed by the current change, from impact.changed.files or git diff against impact.base.ref
+     */
+    public static ChangeSet getChangeSet() {
+        if (changeSet == null) {
+            synchronized (ImpactAnalyzer.class) {
+                if (changeSet == null) {
+                    changeSet = loadChangeSet();
+                }
+            }
+        }
+        return changeSet;
+    }
+
+    /**
+     * Check whether a test class depends on any changed source file
+     */
+    public static boolean isAffected(Class<?> testClass, ChangeSet changes) {
+        Set<String> sources = getSourceFiles(testClass);
+        for (String changed : changes.getJavaFiles()) {
+            for (String source : sources) {
+                if (changed.equals(source) || changed.endsWith("/" + source)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Changed Java files whose classes declare non-private compile-time constants.
+     * Dependents of these classes may have the values inlined and cannot be found by the dependency scan.
+     */
+    public static List<String> findInlinedConstantSources(ChangeSet changes, ClassLoader loader) {
+        List<String> result = new ArrayList<>();
+        for (String changed : changes.getJavaFiles()) {
+            String internalName = findInternalName(changed, loader);
+            if (internalName != null && declaresConstants(internalName, loader)) {
+                result.add(changed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Internal name of the compiled class for a changed source path, trying shorter suffixes
+     * (src/main/java/com/acme/Foo.java, main/java/com/acme/Foo.java, ...) until one is on the classpath
+     */
+    private static String findInternalName(String sourceFile, ClassLoader loader) {
+        String path = sourceFile.substring(0, sourceFile.length() - ".java".length());
+        while (true) {
+            URL resource = loader.getResource(path + ".class");
+            if (resource != null && "file".equals(resource.getProtocol())) {
+                return path;
+            }
+            int slash = path.indexOf('/');
+            if (slash < 0) {
+                return null;
+            }
+            path = path.substring(slash + 1);
+        }
+    }
+
+    private static boolean declaresConstants(String internalName, ClassLoader loader) {
+        if (readClassFile(loader, internalName).declaresConstants) {
+            return true;
+        }
+        // Nested classes, e.g. Keys inside a page object, live in the same source file
+        try {
+            for (Class<?> nested : Class.forName(internalName.replace('/', '.'), false, loader).getDeclaredClasses()) {
+                if (declaresConstants(nested.getName().replace('.', '/'), loader)) {
+                    return true;
+                }
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.debug("Failed to inspect nested classes of {}: {}", internalName, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Package-relative source paths (e.g. com/acme/pages/LoginPage.java) a test class depends on
+     */
+    public static Set<String> getSourceFiles(Class<?> testClass) {
+        return sourceFiles.computeIfAbsent(testClass, ImpactAnalyzer::collectSourceFiles);
+    }
+
+    private static Set<String> collectSourceFiles(Class<?> testClass) {
+        ClassLoader loader = testClass.getClassLoader() != null ? testClass.getClassLoader() : ClassLoader.getSystemClassLoader();
+        Set<String> visited = new HashSet<>();
+        Set<String> sources = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(testClass.getName().replace('.', '/'));
+
+        while (!queue.isEmpty()) {
+            String internalName = queue.poll();
+            if (!visited.add(internalName)) {
+                continue;
+            }
+            URL resource = loader.getResource(internalName + ".class");
+            if (resource == null || !"file".equals(resource.getProtocol())) {
+                continue;
+            }
+            sources.add(toSourcePath(internalName));
+            queue.addAll(readClassFile(loader, internalName).references);
+        }
+        return sources;
+    }
+
+    private static ClassFile readClassFile(ClassLoader loader, String internalName) {
+        return classFiles.computeIfAbsent(internalName, name -> parseClassFile(loader, name));
+    }
+
+    /**
+     * Classes referenced from a class file's constant pool, and whether it declares non-private
+     * static final fields with a ConstantValue attribute
+     */
+    private static ClassFile parseClassFile(ClassLoader loader, String internalName) {
+        ClassFile classFile = new ClassFile();
+        try (InputStream raw = loader.getResourceAsStream(internalName + ".class")) {
+            if (raw == null) {
+                return classFile;
+            }
+            DataInputStream in = new DataInputStream(raw);
+            in.readInt(); // magic
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+            int count = in.readUnsignedShort();
+            List<String> utf8 = new ArrayList<>();
+            List<Integer> classNameIndexes = new ArrayList<>();
+            String[] pool = new String[count];
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1 -> {
+                        pool[i] = in.readUTF();
+                        utf8.add(pool[i]);
+                    }
+                    case 7 -> classNameIndexes.add(in.readUnsignedShort());
+                    case 8, 16, 19, 20 -> in.skipNBytes(2);
+                    case 15 -> in.skipNBytes(3);
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                    case 5, 6 -> {
+                        in.skipNBytes(8);
+                        i++; // 8-byte constants take two slots
+                    }
+                    default -> throw new IOException("Unknown constant pool tag " + tag);
+                }
+            }
+            for (int index : classNameIndexes) {
+                String name = pool[index];
+                if (name != null && !name.startsWith("[")) {
+                    classFile.references.add(name);
+                }
+            }
+            for (String value : utf8) {
+                Matcher matcher = TYPE_DESCRIPTOR.matcher(value);
+                while (matcher.find()) {
+                    classFile.references.add(matcher.group(1));
+                }
+            }
+
+            in.skipNBytes(6); // access flags, this class, super class
+            in.skipNBytes(2 * in.readUnsignedShort()); // interfaces
+            int fields = in.readUnsignedShort();
+            for (int f = 0; f < fields; f++) {
+                int access = in.readUnsignedShort();
+                in.skipNBytes(4); // name, descriptor
+                int attributes = in.readUnsignedShort();
+                for (int a = 0; a < attributes; a++) {
+                    String attribute = pool[in.readUnsignedShort()];
+                    in.skipNBytes(in.readInt());
+                    if ("ConstantValue".equals(attribute) && (access & (ACC_STATIC | ACC_FINAL)) == (ACC_STATIC | ACC_FINAL)
+                            && (access & ACC_PRIVATE) == 0) {
+                        classFile.declaresConstants = true;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to read class file for {}: {}", internalName, e.getMessage());
+        }
+        classFile.references.remove(internalName);
+        return classFile;
+    }
+
+    private static String toSourcePath(String internalName) {
+        int nested = internalName.indexOf('$');
+        return (nested >= 0 ? internalName.substring(0, nested) : internalName) + ".java";
+    }
+
+    private static ChangeSet loadChangeSet() {
+        TestConfig config = TestConfig.getInstance();
+        List<String> files = new ArrayList<>();
+        String explicit = config.getImpactChangedFiles();
+        if (explicit != null && !explicit.isBlank()) {
+            for (String file : explicit.split(",")) {
+                if (!file.isBlank()) {
+                    files.add(file.trim().replace('\\', '/'));
+                }
+            }
+        } else {
+            String baseRef = config.getImpactBaseRef();
+            List<String> committed = git("diff", "--name-only", baseRef + "...HEAD");
+            List<String> uncommitted = git("diff", "--name-only", "HEAD");
+            if (committed == null || uncommitted == null) {
+                logger.warn("Could not determine changed files against {}; running the full suite", baseRef);
+                return ChangeSet.unknown();
+            }
+            files.addAll(committed);
+            files.addAll(uncommitted);
+        }
+
+        List<PathMatcher> ignored = new ArrayList<>();
+        for (String pattern : config.getImpactIgnorePatterns()) {
+            ignored.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern.trim()));
+        }
+        Set<String> javaFiles = new LinkedHashSet<>();
+        Set<String> otherFiles = new LinkedHashSet<>();
+        for (String file : files) {
+            Path path = Paths.get(file);
+            if (ignored.stream().anyMatch(matcher -> matcher.matches(path))) {
+                continue;
+            }
+            (file.endsWith(".java") ? javaFiles : otherFiles).add(file);
+        }
+        ChangeSet result = new ChangeSet(javaFiles, otherFiles, true);
+        logger.info("Impact change set: {} Java files, {} other files", javaFiles.size(), otherFiles.size());
+        return result;
+    }
+
+    private static List<String> git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        lines.add(line.trim());
+                    }
+                }
+            }
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                process.destroyForcibly();
+                return null;
+            }
+            return lines;
+        } catch (IOException e) {
+            logger.debug("git {} failed: {}", String.join(" ", args), e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * What the analyzer needs from one class file
+     */
+    private static class ClassFile {
+        private final Set<String> references = new HashSet<>();
+        private boolean declaresConstants;
+    }
+
+    /**
+     * Changed files relevant to test selection
+     */
+    public static class ChangeSet {
+        private final Set<String> javaFiles;
+        private final Set<String> otherFiles;
+        private final boolean known;
+
+        public ChangeSet(Set<String> javaFiles, Set<String> otherFiles, boolean known) {
+            this.javaFiles = javaFiles;
+            this.otherFiles = otherFiles;
+            this.known = known;
+        }
+
+        static ChangeSet unknown() {
+            return new ChangeSet(Set.of(), Set.of(), false);
+        }
+
+        /**
+         * Whether selection is safe: the change set is known and contains only Java sources
+         */
+        public boolean isSelective() {
+            return known && otherFiles.isEmpty();
+        }
+
+        // Getters
+        public Set<String> getJavaFiles() { return javaFiles; }
+        public Set<String> getOtherFiles() { return otherFiles; }
+        public boolean isKnown() { return known; }
+    }
+}
@@ -0,0 +1,171 @@
+package com.starlettech.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.starlettech.annotations.TestCategory;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.metrics.TestHistory;
+import com.starlettech.core.metrics.TestHistoryStore;
+
+/**
+ * Scores test flakiness and quarantines flaky tests (quarantine.enabled).
+ * The score is an exponentially weighted share of flaky runs over the last quarantine.window runs
+ * (passed only after a retry, or flipped outcome), with retries in this session counted as the newest run.
+ * Decisions are per run: each test is decided once from the history loaded at startup and keeps that decision
+ * for the whole run, so a test never changes treatment between its ordering, retries and reporting.
+ * At the end of the run every decision is rescored with this session's retries and the tests whose
+ * quarantine status changes in the next run are logged.
+ * Quarantined tests are not retried, are moved to the end of the method order, and their failures are
+ * reported as skipped.
+ */
+public class QuarantineManager {
+    private static final Logger logger = LogManager.getLogger(QuarantineManager.class);
+    public static final String QUARANTINED_ATTRIBUTE = "quarantined";
+    private static final Map<String, Decision> decisions = new ConcurrentHashMap<>();
+    private static final List<String> quarantinedFailures = new ArrayList<>();
+
+    /**
+     * Check whether a test method is quarantined for this run; the first query fixes the decision until reset()
+     */
+    public static boolean isQuarantined(Class<?> testClass, Method method) {
+        TestConfig config = TestConfig.getInstance();
+        if (!config.isQuarantineEnabled() || method == null) {
+            return false;
+        }
+        return decisions.computeIfAbsent(TestHistoryStore.keyOf(testClass.getName(), method.getName()),
+            key -> {
+                Decision decision = decide(testClass, method, config);
+                if (decision.isQuarantined()) {
+                    logger.info("Quarantining {} for this run (flakiness score {})", key,
+                        String.format("%.2f", decision.getScore()));
+                }
+                return decision;
+            }).isQuarantined();
+    }
+
+    /**
+     * Rolling flakiness score in [0, 1] from history and this session's retries
+     */
+    public static double getFlakinessScore(Class<?> testClass, String methodName) {
+        TestConfig config = TestConfig.getInstance();
+        TestHistory history = TestHistoryStore.getInstance()
+            .getHistory(TestHistoryStore.keyOf(testClass.getName(), methodName));
+        double decay = config.getQuarantineDecay();
+        double weighted = 0;
+        double totalWeight = 0;
+        double weight = 1.0;
+
+        if (TestMetricsCollector.getRetryCount(testClass.getSimpleName(), methodName) > 0) {
+            weighted += weight;
+            totalWeight += weight;
+            weight *= decay;
+        }
+        if (history != null) {
+            int oldest = Math.max(0, history.getRunCount() - config.getQuarantineWindow());
+            for (int i = history.getRunCount() - 1; i >= oldest; i--) {
+                if (history.isFlakyRun(i)) {
+                    weighted += weight;
+                }
+                totalWeight += weight;
+                weight *= decay;
+            }
+        }
+        return totalWeight > 0 ? weighted / totalWeight : 0.0;
+    }
+
+    /**
+     * Record a quarantined failure that was reported as skipped
+     */
+    public static synchronized void recordQuarantinedFailure(String testKey) {
+        quarantinedFailures.add(testKey);
+    }
+
+    /**
+     * Log quarantined tests, their non-blocking failures, flaky tests missing @TestCategory(isFlaky = true)
+     * and the decisions that change in the next run once this session's retries are counted
+     */
+    public static synchronized void printSummary() {
+        TestConfig config = TestConfig.getInstance();
+        List<Decision> quarantined = decisions.values().stream().filter(Decision::isQuarantined).toList();
+        List<Decision> changed = decisions.values().stream()
+            .map(decision -> decide(decision.getTestClass(), decision.getMethod(), config))
+            .filter(rescored -> rescored.isQuarantined() != decisions.get(rescored.getTestKey()).isQuarantined())
+            .toList();
+        if (quarantined.isEmpty() && changed.isEmpty()) {
+            return;
+        }
+        logger.info("=== QUARANTINE ===");
+        for (Decision decision : quarantined) {
+            logger.info("  {} (score {}{})", decision.getTestKey(), String.format("%.2f", decision.getScore()),
+                decision.isAnnotatedFlaky() ? ", @TestCategory(isFlaky = true)" : ", detected - consider marking isFlaky");
+        }
+        logger.info("Quarantined failures reported as skipped: {}", quarantinedFailures.size());
+        quarantinedFailures.forEach(key -> logger.info("  {}", key));
+        if (!changed.isEmpty()) {
+            logger.info("Quarantine changes for the next run:");
+            changed.forEach(decision -> logger.info("  {} {} (score {})", decision.isQuarantined() ? "+" : "-",
+                decision.getTestKey(), String.format("%.2f", decision.getScore())));
+        }
+    }
+
+    public static void reset() {
+        decisions.clear();
+        synchronized (QuarantineManager.class) {
+            quarantinedFailures.clear();
+        }
+    }
+
+    private static Decision decide(Class<?> testClass, Method method, TestConfig config) {
+        TestCategory category = method.getAnnotation(TestCategory.class);
+        if (category == null) {
+            category = testClass.getAnnotation(TestCategory.class);
+        }
+        boolean annotatedFlaky = category != null && category.isFlaky();
+        double score = getFlakinessScore(testClass, method.getName());
+        TestHistory history = TestHistoryStore.getInstance()
+            .getHistory(TestHistoryStore.keyOf(testClass.getName(), method.getName()));
+        int runs = history != null ? history.getRunCount() : 0;
+
+        boolean quarantined = (annotatedFlaky && config.isQuarantineAnnotated())
+            || (runs >= config.getQuarantineMinRuns() && score >= config.getQuarantineThreshold());
+        String key = TestHistoryStore.keyOf(testClass.getName(), method.getName());
+        return new Decision(testClass, method, key, score, annotatedFlaky, quarantined);
+    }
+
+    /**
+     * Quarantine decision for one test
+     */
+    public static class Decision {
+        private final Class<?> testClass;
+        private final Method method;
+        private final String testKey;
+        private final double score;
+        private final boolean annotatedFlaky;
+        private final boolean quarantined;
+
+        public Decision(Class<?> testClass, Method method, String testKey, double score, boolean annotatedFlaky,
+                        boolean quarantined) {
+            this.testClass = testClass;
+            this.method = method;
+            this.testKey = testKey;
+            this.score = score;
+            this.annotatedFlaky = annotatedFlaky;
+            this.quarantined = quarantined;
+        }
+
+        // Getters
+        public Class<?> getTestClass() { return testClass; }
+        public Method getMethod() { return method; }
+        public String getTestKey() { return testKey; }
+        public double getScore() { return score; }
+        public boolean isAnnotatedFlaky() { return annotatedFlaky; }
+        public boolean isQuarantined() { return quarantined; }
+    }
+}
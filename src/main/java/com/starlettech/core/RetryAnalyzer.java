@@ -35,6 +35,11 @@ public class RetryAnalyzer implements IRetryAnalyzer {
             return false;
         }
         
+        // Quarantined tests do not consume retries; their failures are reported as skipped
+        if (QuarantineManager.isQuarantined(result.getTestClass().getRealClass(), testMethod)) {
+            return false;
+        }
+
         int currentRetryCount = getRetryCount();
         int maxRetryCount = getMaxRetryCount(retryAnnotation);
         
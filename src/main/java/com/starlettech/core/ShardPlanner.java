@@ -0,0 +1,68 @@
+package com.starlettech.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits work units into balanced shards using greedy longest-processing-time bin packing:
+ * units are taken longest first and each goes to the currently lightest shard.
+ * The plan is deterministic: given the same units and durations, every JVM computes the same split.
+ */
+public class ShardPlanner {
+
+    /**
+     * Plan {@code shardCount} shards of units weighted by estimated duration in milliseconds.
+     * {@code keyFunction} breaks ties so the plan does not depend on input order.
+     */
+    public static <T> List<Shard<T>> plan(List<T> units, ToLongFunction<T> durationFunction,
+                                          Function<T, String> keyFunction, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shardCount);
+        }
+
+        List<Shard<T>> shards = new ArrayList<>(shardCount);
+        PriorityQueue<Shard<T>> lightest = new PriorityQueue<>(
+            Comparator.<Shard<T>>comparingLong(Shard::getEstimatedDurationMs).thenComparingInt(Shard::getIndex));
+        for (int i = 0; i < shardCount; i++) {
+            Shard<T> shard = new Shard<>(i);
+            shards.add(shard);
+            lightest.add(shard);
+        }
+
+        List<T> sorted = new ArrayList<>(units);
+        sorted.sort(Comparator.<T>comparingLong(durationFunction).reversed().thenComparing(keyFunction));
+        for (T unit : sorted) {
+            Shard<T> shard = lightest.poll();
+            shard.add(unit, durationFunction.applyAsLong(unit));
+            lightest.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Units assigned to one shard
+     */
+    public static class Shard<T> {
+        private final int index;
+        private final List<T> units = new ArrayList<>();
+        private long estimatedDurationMs;
+
+        public Shard(int index) {
+            this.index = index;
+        }
+
+        void add(T unit, long durationMs) {
+            units.add(unit);
+            estimatedDurationMs += durationMs;
+        }
+
+        // Getters
+        public int getIndex() { return index; }
+        public List<T> getUnits() { return units; }
+        public long getEstimatedDurationMs() { return estimatedDurationMs; }
+    }
+}
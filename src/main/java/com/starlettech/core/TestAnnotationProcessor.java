@@ -3,8 +3,11 @@ package com.starlettech.core;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
@@ -18,10 +21,13 @@ import com.starlettech.annotations.Retry;
 import com.starlettech.annotations.SecurityTest;
 import com.starlettech.annotations.TestCategory;
 import com.starlettech.annotations.TestInfo;
+import com.starlettech.config.BrowserConfig;
 import com.starlettech.core.handler.PerformanceTestHandler;
 import com.starlettech.core.handler.PerformanceTestHandler.PerformanceMetrics;
 import com.starlettech.core.handler.SecurityTestHandler;
 import com.starlettech.core.handler.SecurityTestHandler.SecurityValidationResult;
+import com.starlettech.enums.BlockCategory;
+import com.starlettech.enums.BrowserType;
 
 /**
  * Centralized annotation processor for all test annotations
@@ -162,6 +168,34 @@ public class TestAnnotationProcessor {
         }
     }
 
+    /**
+     * Browser type from the method or test class @Browser annotation, or the configured default
+     */
+    public static BrowserType resolveBrowserType(Method testMethod, Class<?> testClass) {
+        Browser browser = testMethod != null ? testMethod.getAnnotation(Browser.class) : null;
+        if (browser == null) {
+            browser = testClass.getAnnotation(Browser.class);
+        }
+        return browser != null ? browser.value() : BrowserConfig.getInstance().getBrowserType();
+    }
+
+    /**
+     * Request categories to block from the method or test class @Browser annotation, or browser.block
+     */
+    public static Set<BlockCategory> resolveBlockCategories(Method testMethod, Class<?> testClass) {
+        Browser browser = testMethod != null ? testMethod.getAnnotation(Browser.class) : null;
+        if (browser == null || browser.block().length == 0) {
+            Browser classBrowser = testClass.getAnnotation(Browser.class);
+            if (classBrowser != null && classBrowser.block().length > 0) {
+                browser = classBrowser;
+            }
+        }
+        if (browser != null && browser.block().length > 0) {
+            return EnumSet.copyOf(Arrays.asList(browser.block()));
+        }
+        return BrowserConfig.getInstance().getBlockCategories();
+    }
+
     private static <T extends Annotation> T getAnnotation(Method method, Class<T> annotationClass) {
         T methodAnnotation = method.getAnnotation(annotationClass);
         if (methodAnnotation != null) {
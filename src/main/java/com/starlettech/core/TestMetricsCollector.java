@@ -3,6 +3,11 @@ package com.starlettech.core;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.starlettech.core.metrics.ApiCallStats;
+import com.starlettech.core.metrics.DurationHistogram;
+import com.starlettech.core.metrics.TestPhase;
+import com.starlettech.core.metrics.WaitStats;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -27,16 +32,42 @@ public class TestMetricsCollector {
     private static final AtomicLong totalExecutionTime = new AtomicLong(0);
     private static final AtomicLong minExecutionTime = new AtomicLong(Long.MAX_VALUE);
     private static final AtomicLong maxExecutionTime = new AtomicLong(0);
+    private static final DurationHistogram durationHistogram = new DurationHistogram();
     
     // Test details
     private static final Map<String, TestExecution> testExecutions = new ConcurrentHashMap<>();
     private static final Map<String, List<Long>> testExecutionTimes = new ConcurrentHashMap<>();
     private static final Map<String, AtomicInteger> testRetryCount = new ConcurrentHashMap<>();
     
+    // Network blocking metrics
+    private static final AtomicLong blockedRequests = new AtomicLong(0);
+    private static final AtomicLong blockedBytes = new AtomicLong(0);
+    private static final Map<String, AtomicLong> testBlockedRequests = new ConcurrentHashMap<>();
+    
     // Browser and environment metrics
     private static final Map<String, AtomicInteger> browserUsage = new ConcurrentHashMap<>();
     private static final Map<String, AtomicInteger> environmentUsage = new ConcurrentHashMap<>();
     
+    // Lifecycle phase timing
+    private static final long[] PHASE_BOUNDS_MS = {1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000};
+    private static final Map<TestPhase, DurationHistogram> phaseHistograms = new EnumMap<>(TestPhase.class);
+    private static final Map<TestPhase, AtomicLong> phaseTotalNanos = new EnumMap<>(TestPhase.class);
+    private static final Map<String, Map<TestPhase, AtomicLong>> testPhaseNanos = new ConcurrentHashMap<>();
+    
+    // Wait time per call site
+    private static final Map<String, WaitStats> waitStats = new ConcurrentHashMap<>();
+    private static final Map<String, WaitStats> hardWaitStats = new ConcurrentHashMap<>();
+    
+    // API calls per endpoint
+    private static final Map<String, ApiCallStats> apiCallStats = new ConcurrentHashMap<>();
+
+    static {
+        for (TestPhase phase : TestPhase.values()) {
+            phaseHistograms.put(phase, new DurationHistogram(PHASE_BOUNDS_MS));
+            phaseTotalNanos.put(phase, new AtomicLong());
+        }
+    }
+    
     // Error tracking
     private static final Map<String, AtomicInteger> errorTypes = new ConcurrentHashMap<>();
     private static final List<TestFailure> recentFailures = Collections.synchronizedList(new ArrayList<>());
@@ -87,6 +118,7 @@ public class TestMetricsCollector {
         // Update performance metrics
         totalExecutionTime.addAndGet(executionTime);
         updateMinMaxExecutionTime(executionTime);
+        durationHistogram.record(executionTime);
         
         // Track execution times for this test
         testExecutionTimes.computeIfAbsent(testKey, k -> Collections.synchronizedList(new ArrayList<>()))
@@ -106,6 +138,101 @@ public class TestMetricsCollector {
         logger.debug("Test retry recorded: {}.{}", className, testName);
     }
 
+    /**
+     * Record requests aborted by blocking profiles during a test; bytes cover only requests of known size
+     */
+    public static void recordBlockedRequests(String testName, String className, long requests, long knownBytes) {
+        blockedRequests.addAndGet(requests);
+        blockedBytes.addAndGet(knownBytes);
+        testBlockedRequests.computeIfAbsent(getTestKey(className, testName), k -> new AtomicLong(0)).addAndGet(requests);
+        logger.debug("Blocked requests recorded: {}.{} [Requests: {}, Known bytes: {}]", className, testName, requests, knownBytes);
+    }
+
+    /**
+     * Requests blocked during a test in this session
+     */
+    public static long getBlockedRequests(String className, String testName) {
+        AtomicLong count = testBlockedRequests.get(getTestKey(className, testName));
+        return count != null ? count.get() : 0;
+    }
+
+    public static long getBlockedRequests() {
+        return blockedRequests.get();
+    }
+
+    public static long getBlockedBytes() {
+        return blockedBytes.get();
+    }
+
+    /**
+     * Retries recorded for a test in this session
+     */
+    public static int getRetryCount(String className, String testName) {
+        AtomicInteger count = testRetryCount.get(getTestKey(className, testName));
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Record time spent in a lifecycle phase
+     */
+    public static void recordPhase(String testKey, TestPhase phase, long nanos) {
+        phaseHistograms.get(phase).record(nanos / 1_000_000);
+        phaseTotalNanos.get(phase).addAndGet(nanos);
+        if (testKey != null) {
+            testPhaseNanos.computeIfAbsent(testKey, k -> new ConcurrentHashMap<>())
+                          .computeIfAbsent(phase, k -> new AtomicLong())
+                          .addAndGet(nanos);
+        }
+    }
+
+    /**
+     * Record time spent in an explicit wait, keyed by the calling page object or test location
+     */
+    public static void recordWait(String callSite, long nanos, boolean timedOut) {
+        waitStats.computeIfAbsent(callSite, WaitStats::new).record(nanos, timedOut);
+    }
+
+    /**
+     * Record one ApiClient request, keyed by method and path template; status 0 means no response
+     */
+    public static void recordApiCall(String endpoint, int status, long nanos) {
+        apiCallStats.computeIfAbsent(endpoint, ApiCallStats::new).record(status, nanos);
+    }
+
+    /**
+     * Get API endpoints ordered by total request time
+     */
+    public static List<ApiCallStats> getApiCallStats() {
+        List<ApiCallStats> stats = new ArrayList<>(apiCallStats.values());
+        stats.sort(Comparator.comparingLong(ApiCallStats::getTotalMs).reversed());
+        return stats;
+    }
+
+    /**
+     * Record a fixed sleep from WaitUtils.hardWait; these should be replaced with condition-based waits
+     */
+    public static void recordHardWait(String callSite, long milliseconds) {
+        hardWaitStats.computeIfAbsent(callSite, WaitStats::new).record(milliseconds * 1_000_000, false);
+    }
+
+    /**
+     * Get hard wait call sites ordered by total time slept
+     */
+    public static List<WaitStats> getHardWaitStats() {
+        List<WaitStats> stats = new ArrayList<>(hardWaitStats.values());
+        stats.sort(Comparator.comparingLong(WaitStats::getTotalMs).reversed());
+        return stats;
+    }
+
+    /**
+     * Get wait call sites ordered by total time waited
+     */
+    public static List<WaitStats> getWaitStats() {
+        List<WaitStats> stats = new ArrayList<>(waitStats.values());
+        stats.sort(Comparator.comparingLong(WaitStats::getTotalMs).reversed());
+        return stats;
+    }
+
     /**
      * Record test failure details
      */
@@ -188,6 +315,47 @@ public class TestMetricsCollector {
         return metrics;
     }
 
+    /**
+     * Get test duration histogram
+     */
+    public static DurationHistogram getDurationHistogram() {
+        return durationHistogram;
+    }
+
+    /**
+     * Get per-phase duration histograms
+     */
+    public static Map<TestPhase, DurationHistogram> getPhaseHistograms() {
+        return Collections.unmodifiableMap(phaseHistograms);
+    }
+
+    /**
+     * Get total nanoseconds spent per phase across all tests
+     */
+    public static Map<TestPhase, Long> getPhaseTotals() {
+        Map<TestPhase, Long> totals = new EnumMap<>(TestPhase.class);
+        phaseTotalNanos.forEach((phase, nanos) -> totals.put(phase, nanos.get()));
+        return totals;
+    }
+
+    /**
+     * Get the test/phase combinations that consumed the most time
+     */
+    public static List<PhaseOffender> getTopPhaseOffenders(int limit) {
+        List<PhaseOffender> offenders = new ArrayList<>();
+        testPhaseNanos.forEach((testKey, phases) ->
+            phases.forEach((phase, nanos) -> offenders.add(new PhaseOffender(testKey, phase, nanos.get()))));
+        offenders.sort(Comparator.comparingLong(PhaseOffender::getNanos).reversed());
+        return offenders.size() > limit ? new ArrayList<>(offenders.subList(0, limit)) : offenders;
+    }
+
+    /**
+     * Get number of tests started but not yet completed
+     */
+    public static int getRunningTests() {
+        return Math.max(0, totalTests.get() - passedTests.get() - failedTests.get() - skippedTests.get());
+    }
+
     /**
      * Get recent test failures
      */
@@ -230,10 +398,20 @@ public class TestMetricsCollector {
         totalExecutionTime.set(0);
         minExecutionTime.set(Long.MAX_VALUE);
         maxExecutionTime.set(0);
+        durationHistogram.reset();
+        phaseHistograms.values().forEach(DurationHistogram::reset);
+        phaseTotalNanos.values().forEach(total -> total.set(0));
+        testPhaseNanos.clear();
+        waitStats.clear();
+        hardWaitStats.clear();
+        apiCallStats.clear();
         
         testExecutions.clear();
         testExecutionTimes.clear();
         testRetryCount.clear();
+        blockedRequests.set(0);
+        blockedBytes.set(0);
+        testBlockedRequests.clear();
         browserUsage.clear();
         environmentUsage.clear();
         errorTypes.clear();
@@ -270,9 +448,90 @@ public class TestMetricsCollector {
         System.out.println("  Average Execution Time: " + formatDuration(summary.getAverageExecutionTime()));
         System.out.println("  Min Execution Time: " + formatDuration(summary.getMinExecutionTime()));
         System.out.println("  Max Execution Time: " + formatDuration(summary.getMaxExecutionTime()));
+        if (blockedRequests.get() > 0) {
+            System.out.println();
+            System.out.println("Network:");
+            System.out.println("  Blocked Requests: " + blockedRequests.get());
+            System.out.println("  Known Bytes Saved: " + blockedBytes.get() / 1024 + " KB");
+        }
+        printPhaseBreakdown();
+        printWaitBreakdown();
+        printApiBreakdown();
         System.out.println("=".repeat(60));
     }
 
+    /**
+     * Print where suite time went per lifecycle phase, plus the top offenders
+     */
+    private static void printPhaseBreakdown() {
+        Map<TestPhase, Long> totals = getPhaseTotals();
+        long allPhases = totals.values().stream().mapToLong(Long::longValue).sum();
+        if (allPhases == 0) {
+            return;
+        }
+
+        System.out.println();
+        System.out.println("Phase Breakdown:");
+        for (Map.Entry<TestPhase, Long> entry : totals.entrySet()) {
+            if (entry.getValue() > 0) {
+                System.out.println(String.format("  %-20s %10s (%5.1f%%)", entry.getKey().getDescription() + ":",
+                    formatDuration(entry.getValue() / 1_000_000), entry.getValue() * 100.0 / allPhases));
+            }
+        }
+        System.out.println("Top Phase Offenders:");
+        for (PhaseOffender offender : getTopPhaseOffenders(5)) {
+            System.out.println("  " + offender.getTestKey() + " [" + offender.getPhase().getDescription() + "]: "
+                + formatDuration(offender.getNanos() / 1_000_000));
+        }
+    }
+
+    /**
+     * Print the call sites that spent the most time in explicit waits, and any hard waits
+     */
+    private static void printWaitBreakdown() {
+        List<WaitStats> stats = getWaitStats();
+
+        if (!stats.isEmpty()) {
+            System.out.println();
+            System.out.println("Top Wait Call Sites:");
+            for (WaitStats site : stats.subList(0, Math.min(5, stats.size()))) {
+                System.out.println("  " + site.getCallSite() + ": " + formatDuration(site.getTotalMs())
+                    + " in " + site.getCount() + " waits (avg " + formatDuration(site.getAverageMs())
+                    + ", max " + formatDuration(site.getMaxMs()) + ", timeouts " + site.getTimeouts() + ")");
+            }
+        }
+
+        List<WaitStats> hardWaits = getHardWaitStats();
+        if (!hardWaits.isEmpty()) {
+            System.out.println();
+            System.out.println("Hard Waits (replace with condition waits): "
+                + hardWaits.stream().mapToLong(WaitStats::getCount).sum() + " calls");
+            for (WaitStats site : hardWaits) {
+                System.out.println("  " + site.getCallSite() + ": " + site.getCount() + " calls, "
+                    + formatDuration(site.getTotalMs()) + " slept");
+            }
+        }
+    }
+
+    /**
+     * Print API call totals and the slowest endpoints
+     */
+    private static void printApiBreakdown() {
+        List<ApiCallStats> stats = getApiCallStats();
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        System.out.println();
+        System.out.println("API Calls: " + stats.stream().mapToLong(ApiCallStats::getCount).sum() + " requests, "
+            + stats.stream().mapToLong(ApiCallStats::getErrors).sum() + " errors");
+        for (ApiCallStats endpoint : stats.subList(0, Math.min(5, stats.size()))) {
+            System.out.println("  " + endpoint.getEndpoint() + ": " + endpoint.getCount() + " calls, "
+                + formatDuration(endpoint.getTotalMs()) + " (avg " + formatDuration(endpoint.getAverageMs())
+                + ", max " + formatDuration(endpoint.getMaxMs()) + ", errors " + endpoint.getErrors() + ")");
+        }
+    }
+
     /**
      * Format duration in milliseconds to human readable format
      */
@@ -432,6 +691,23 @@ public class TestMetricsCollector {
         public Throwable getError() { return error; }
     }
 
+    public static class PhaseOffender {
+        private final String testKey;
+        private final TestPhase phase;
+        private final long nanos;
+
+        public PhaseOffender(String testKey, TestPhase phase, long nanos) {
+            this.testKey = testKey;
+            this.phase = phase;
+            this.nanos = nanos;
+        }
+
+        // Getters
+        public String getTestKey() { return testKey; }
+        public TestPhase getPhase() { return phase; }
+        public long getNanos() { return nanos; }
+    }
+
     public static class TestFailure {
         private final String testName;
         private final String className;
@@ -0,0 +1,381 @@
+package com.starlettech.core.api;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.RequestOptions;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.TestMetricsCollector;
+import com.starlettech.core.metrics.events.ApiRequestEvent;
+import com.starlettech.enums.HttpMethod;
+import com.starlettech.exceptions.ApiException;
+import com.starlettech.utils.JsonUtils;
+
+/**
+ * HTTP client for API tests on top of Playwright's APIRequestContext.
+ * Request contexts are expensive (each holds its own connection pool), so every worker thread keeps
+ * one context per environment and base URL and reuses it across tests, keeping connections alive.
+ * They live on a Playwright instance of their own, independent of the browser lifecycle.
+ * Playwright is not thread-safe, so a Playwright and its contexts (a session) serve one thread at a time;
+ * load generator users borrow sessions from a pool that warmUp fills before measuring, so driver startup
+ * stays out of measured latency and later load tests reuse the running drivers.
+ * Bodies are (de)serialized with the shared JsonUtils mapper and every call is timed per endpoint
+ * in TestMetricsCollector. Clients are immutable and cheap; withHeader and friends return a copy.
+ */
+public class ApiClient {
+    private static final Logger logger = LogManager.getLogger(ApiClient.class);
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+        "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+    private static final ThreadLocal<Session> sessionThreadLocal = new ThreadLocal<>();
+    private static final Set<Session> liveSessions = ConcurrentHashMap.newKeySet();
+    private static final Deque<Session> idleSessions = new ConcurrentLinkedDeque<>();
+
+    private final String baseUrl;
+    private final Map<String, String> headers;
+
+    private ApiClient(String baseUrl, Map<String, String> headers) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.headers = Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * Client for the API base URL of the current environment
+     */
+    public static ApiClient create() {
+        return forBaseUrl(TestConfig.getInstance().getApiBaseUrl());
+    }
+
+    /**
+     * Client for an explicit base URL
+     */
+    public static ApiClient forBaseUrl(String baseUrl) {
+        return new ApiClient(baseUrl, new LinkedHashMap<>());
+    }
+
+    /**
+     * Copy of this client sending an extra header with every request
+     */
+    public ApiClient withHeader(String name, String value) {
+        Map<String, String> copy = new LinkedHashMap<>(headers);
+        copy.put(name, value);
+        return new ApiClient(baseUrl, copy);
+    }
+
+    /**
+     * Copy of this client authenticating with a bearer token instead of api.auth.token
+     */
+    public ApiClient withBearerToken(String token) {
+        return withHeader("Authorization", "Bearer " + token);
+    }
+
+    public ApiResponse<Void> get(String path) {
+        return send(HttpMethod.GET, path, null, (url, text) -> null);
+    }
+
+    public <T> ApiResponse<T> get(String path, Class<T> responseType) {
+        return send(HttpMethod.GET, path, null, reader(responseType));
+    }
+
+    public <T> ApiResponse<T> get(String path, TypeReference<T> responseType) {
+        return send(HttpMethod.GET, path, null, reader(responseType));
+    }
+
+    public <T> ApiResponse<T> post(String path, Object body, Class<T> responseType) {
+        return send(HttpMethod.POST, path, body, reader(responseType));
+    }
+
+    public <T> ApiResponse<T> post(String path, Object body, TypeReference<T> responseType) {
+        return send(HttpMethod.POST, path, body, reader(responseType));
+    }
+
+    public <T> ApiResponse<T> put(String path, Object body, Class<T> responseType) {
+        return send(HttpMethod.PUT, path, body, reader(responseType));
+    }
+
+    public <T> ApiResponse<T> patch(String path, Object body, Class<T> responseType) {
+        return send(HttpMethod.PATCH, path, body, reader(responseType));
+    }
+
+    public ApiResponse<Void> delete(String path) {
+        return send(HttpMethod.DELETE, path, null, (url, text) -> null);
+    }
+
+    /**
+     * Send a request without deserializing the response body; use ApiResponse.as() to read it
+     */
+    public ApiResponse<Void> send(HttpMethod method, String path, Object body) {
+        return send(method, path, body, (url, text) -> null);
+    }
+
+    /**
+     * Send a request and deserialize a 2xx response body to the given type
+     */
+    public <T> ApiResponse<T> send(HttpMethod method, String path, Object body, Class<T> responseType) {
+        return send(method, path, body, reader(responseType));
+    }
+
+    private <T> ApiResponse<T> send(HttpMethod method, String path, Object body, BodyReader<T> bodyReader) {
+        String url = resolveUrl(path);
+        RequestOptions options = RequestOptions.create().setMethod(method.getMethod());
+        headers.forEach(options::setHeader);
+        setBody(options, url, body);
+
+        APIRequestContext context = getContext(baseUrl);
+        int status = 0;
+        long start = System.nanoTime();
+        try (ApiRequestEvent event = ApiRequestEvent.start(method.getMethod(), url)) {
+            APIResponse response;
+            try {
+                response = context.fetch(url, options);
+            } catch (RuntimeException e) {
+                throw ApiException.requestFailed(method.getMethod(), url, e);
+            }
+            try {
+                status = response.status();
+                event.setStatus(status);
+                String text = response.text();
+                long durationMs = (System.nanoTime() - start) / 1_000_000;
+                T value = status >= 200 && status < 300 && text != null && !text.isBlank()
+                    ? bodyReader.read(url, text) : null;
+                logger.debug("{} {} -> {} ({}ms)", method, url, status, durationMs);
+                return new ApiResponse<>(method, url, status, response.statusText(), lowerCaseKeys(response.headers()),
+                    text, value, durationMs);
+            } finally {
+                // Frees the body held by the driver; long runs would otherwise accumulate every response
+                response.dispose();
+            }
+        } finally {
+            TestMetricsCollector.recordApiCall(method.getMethod() + " " + endpointOf(path), status, System.nanoTime() - start);
+        }
+    }
+
+    private void setBody(RequestOptions options, String url, Object body) {
+        if (body == null) {
+            return;
+        }
+        if (body instanceof String text) {
+            options.setData(text);
+        } else if (body instanceof byte[] bytes) {
+            options.setData(bytes);
+        } else {
+            try {
+                options.setData(JsonUtils.getObjectMapper().writeValueAsBytes(body));
+            } catch (Exception e) {
+                throw ApiException.serializationFailed(url, e);
+            }
+            if (headers.keySet().stream().noneMatch("Content-Type"::equalsIgnoreCase)) {
+                options.setHeader("Content-Type", "application/json");
+            }
+        }
+    }
+
+    private String resolveUrl(String path) {
+        if (path.startsWith("http://") || path.startsWith("https://")) {
+            return path;
+        }
+        return baseUrl + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    /**
+     * Request context of this thread for a base URL, created on first use
+     */
+    private static APIRequestContext getContext(String baseUrl) {
+        Session session = sessionThreadLocal.get();
+        if (session == null || !liveSessions.contains(session)) {
+            // First use on this thread, or closed by shutdown()
+            session = openSession();
+            sessionThreadLocal.set(session);
+        }
+        return session.context(baseUrl);
+    }
+
+    private static Session openSession() {
+        Session session = new Session(Playwright.create());
+        liveSessions.add(session);
+        return session;
+    }
+
+    /**
+     * Path template used as metrics key: query removed and numeric or UUID segments replaced by {id}
+     */
+    static String endpointOf(String path) {
+        String endpoint = path.replaceFirst("^https?://[^/]+", "");
+        int query = endpoint.indexOf('?');
+        if (query >= 0) {
+            endpoint = endpoint.substring(0, query);
+        }
+        endpoint = ID_SEGMENT.matcher(endpoint).replaceAll("/{id}");
+        return endpoint.startsWith("/") ? endpoint : "/" + endpoint;
+    }
+
+    private static Map<String, String> lowerCaseKeys(Map<String, String> headers) {
+        Map<String, String> result = new LinkedHashMap<>();
+        headers.forEach((name, value) -> result.put(name.toLowerCase(), value));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static <T> BodyReader<T> reader(Class<T> type) {
+        return (url, text) -> {
+            ObjectMapper mapper = JsonUtils.getObjectMapper();
+            try {
+                return type == String.class ? type.cast(text) : mapper.readValue(text, type);
+            } catch (Exception e) {
+                throw ApiException.deserializationFailed(url, type.getName(), e);
+            }
+        };
+    }
+
+    private static <T> BodyReader<T> reader(TypeReference<T> type) {
+        return (url, text) -> {
+            try {
+                return JsonUtils.getObjectMapper().readValue(text, type);
+            } catch (Exception e) {
+                throw ApiException.deserializationFailed(url, type.getType().getTypeName(), e);
+            }
+        };
+    }
+
+    /**
+     * Pool at least the given number of idle sessions, each with a request context for api.base.url,
+     * starting the missing Playwright drivers in parallel; call before a measurement window
+     */
+    public static void warmUp(int sessions) {
+        int missing = sessions - idleSessions.size();
+        if (missing <= 0) {
+            return;
+        }
+        String baseUrl = create().getBaseUrl();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < missing; i++) {
+                executor.submit(() -> {
+                    try {
+                        Session session = openSession();
+                        session.context(baseUrl);
+                        idleSessions.add(session);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to warm up API session: {}", e.getMessage());
+                    }
+                });
+            }
+        }
+        logger.info("Warmed up {} API sessions for {} in {}ms", missing, baseUrl, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Bind an idle pooled session to this thread, if any; without one, the first request starts a new session
+     */
+    public static void attach() {
+        if (sessionThreadLocal.get() != null) {
+            return;
+        }
+        Session session;
+        while ((session = idleSessions.poll()) != null) {
+            if (liveSessions.contains(session)) {
+                sessionThreadLocal.set(session);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Return this thread's session to the pool instead of closing it; for short-lived threads such as
+     * load generator users, so the next load test does not start its drivers again
+     */
+    public static void detach() {
+        Session session = sessionThreadLocal.get();
+        sessionThreadLocal.remove();
+        if (session != null && liveSessions.contains(session)) {
+            idleSessions.add(session);
+        }
+    }
+
+    /**
+     * Close this thread's session and its request contexts
+     */
+    public static void release() {
+        Session session = sessionThreadLocal.get();
+        sessionThreadLocal.remove();
+        if (session != null && liveSessions.remove(session)) {
+            session.close();
+        }
+    }
+
+    /**
+     * Close all sessions, pooled or bound to a thread; called once at suite end
+     */
+    public static void shutdown() {
+        for (Session session : liveSessions) {
+            session.close();
+        }
+        liveSessions.clear();
+        idleSessions.clear();
+    }
+
+    // Getters
+    public String getBaseUrl() { return baseUrl; }
+    public Map<String, String> getHeaders() { return headers; }
+
+    /**
+     * One Playwright instance with its request contexts per environment and base URL
+     */
+    private static class Session {
+        private final Playwright playwright;
+        private final Map<String, APIRequestContext> contexts = new HashMap<>();
+
+        Session(Playwright playwright) {
+            this.playwright = playwright;
+        }
+
+        APIRequestContext context(String baseUrl) {
+            TestConfig config = TestConfig.getInstance();
+            String key = config.getEnvironment().name() + "|" + baseUrl;
+            APIRequestContext context = contexts.get(key);
+            if (context == null) {
+                Map<String, String> defaultHeaders = config.getApiHeaders();
+                String token = config.getApiAuthToken();
+                if (token != null && !token.isBlank()) {
+                    defaultHeaders.put("Authorization", "Bearer " + token);
+                }
+                context = playwright.request().newContext(new APIRequest.NewContextOptions()
+                    .setExtraHTTPHeaders(defaultHeaders)
+                    .setTimeout(config.getApiTimeoutMs())
+                    .setIgnoreHTTPSErrors(config.isApiIgnoreHttpsErrors()));
+                contexts.put(key, context);
+                logger.debug("Created API request context for {} ({})", baseUrl, config.getEnvironment());
+            }
+            return context;
+        }
+
+        void close() {
+            try {
+                playwright.close();
+            } catch (Exception e) {
+                logger.warn("Error closing API Playwright: {}", e.getMessage());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(String url, String body);
+    }
+}
@@ -0,0 +1,104 @@
+package com.starlettech.core.api;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.starlettech.enums.HttpMethod;
+import com.starlettech.exceptions.ApiException;
+import com.starlettech.utils.JsonUtils;
+
+/**
+ * Response of an ApiClient call. The body is read once and the Playwright response disposed,
+ * so instances stay valid after the request context is reused or closed.
+ */
+public class ApiResponse<T> {
+    private final HttpMethod method;
+    private final String url;
+    private final int status;
+    private final String statusText;
+    private final Map<String, String> headers;
+    private final String body;
+    private final T value;
+    private final long durationMs;
+
+    ApiResponse(HttpMethod method, String url, int status, String statusText, Map<String, String> headers,
+                String body, T value, long durationMs) {
+        this.method = method;
+        this.url = url;
+        this.status = status;
+        this.statusText = statusText;
+        this.headers = headers;
+        this.body = body;
+        this.value = value;
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Whether the status is 2xx
+     */
+    public boolean isOk() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Header value by case-insensitive name, or null
+     */
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase());
+    }
+
+    /**
+     * Fail unless the response has the expected status
+     */
+    public ApiResponse<T> expectStatus(int expected) {
+        if (status != expected) {
+            throw ApiException.unexpectedStatus(method.getMethod(), url, expected, status, body);
+        }
+        return this;
+    }
+
+    /**
+     * Deserialize the body to another type
+     */
+    public <R> R as(Class<R> type) {
+        try {
+            return JsonUtils.getObjectMapper().readValue(body, type);
+        } catch (Exception e) {
+            throw ApiException.deserializationFailed(url, type.getName(), e);
+        }
+    }
+
+    /**
+     * Deserialize the body to a generic type, e.g. new TypeReference&lt;List&lt;User&gt;&gt;() {}
+     */
+    public <R> R as(TypeReference<R> type) {
+        try {
+            return JsonUtils.getObjectMapper().readValue(body, type);
+        } catch (Exception e) {
+            throw ApiException.deserializationFailed(url, type.getType().getTypeName(), e);
+        }
+    }
+
+    /**
+     * Body as a JSON tree
+     */
+    public JsonNode asJsonNode() {
+        return as(JsonNode.class);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ApiResponse{%s %s -> %d, %dms}", method, url, status, durationMs);
+    }
+
+    // Getters
+    public HttpMethod getMethod() { return method; }
+    public String getUrl() { return url; }
+    public int getStatus() { return status; }
+    public String getStatusText() { return statusText; }
+    public Map<String, String> getHeaders() { return headers; }
+    public String getBody() { return body; }
+    public T getValue() { return value; }
+    public long getDurationMs() { return durationMs; }
+}
@@ -1,13 +1,22 @@
 package com.starlettech.core.base;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import com.starlettech.annotations.Selector;
 import com.starlettech.config.TestConfig;
 import com.starlettech.core.managers.PlaywrightManager;
+import com.starlettech.core.metrics.events.PageNavigationEvent;
 import com.starlettech.exceptions.BrowserException;
 import com.starlettech.exceptions.PageException;
 import com.starlettech.utils.WaitUtils;
@@ -16,11 +25,16 @@ import com.starlettech.utils.WaitUtils;
  * Base Page class containing common page operations
  */
 public abstract class BasePage {
+    private static final Map<Class<?>, List<Field>> selectorFields = new ConcurrentHashMap<>();
     protected final Logger logger = LogManager.getLogger(this.getClass());
     protected Page page;
     protected TestConfig testConfig;
     protected WaitUtils waitUtils;
+    protected LocatorRegistry locators;
 
+    // Injecting @Selector fields hands 'this' to Field.set before subclass constructors run; subclass
+    // @Selector fields must therefore not have initializers, which would overwrite the injected locator
+    @SuppressWarnings("this-escape")
     public BasePage() {
         this.page = PlaywrightManager.getPage();
         this.testConfig = TestConfig.getInstance();
@@ -29,6 +43,56 @@ public abstract class BasePage {
         if (this.page == null) {
             throw BrowserException.pageNotInitialized();
         }
+        this.locators = new LocatorRegistry(page, getClass().getSimpleName());
+        injectSelectors();
+    }
+
+    /**
+     * Validate the @Selector fields of a page object class; called on first construction and for every
+     * page object at suite start by SelectorValidationListener (selector.validation.enabled).
+     * Runs once per class; every invalid selector is reported together.
+     */
+    public static List<Field> validateSelectors(Class<? extends BasePage> pageClass) {
+        return selectorFields.computeIfAbsent(pageClass, BasePage::collectSelectorFields);
+    }
+
+    private static List<Field> collectSelectorFields(Class<?> pageClass) {
+        List<Field> fields = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != BasePage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                Selector selector = field.getAnnotation(Selector.class);
+                if (selector == null) {
+                    continue;
+                }
+                String error = field.getType() != Locator.class ? "field must be of type Locator"
+                    : Modifier.isStatic(field.getModifiers()) ? "field must not be static"
+                    : SelectorValidator.validate(selector.value());
+                if (error != null) {
+                    errors.add(field.getName() + " = \"" + selector.value() + "\": " + error);
+                } else {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw PageException.invalidSelectors(pageClass.getSimpleName(), errors);
+        }
+        return fields;
+    }
+
+    /**
+     * Set @Selector Locator fields; Playwright locators re-resolve on every action, so they stay valid across navigation
+     */
+    private void injectSelectors() {
+        for (Field field : validateSelectors(getClass())) {
+            try {
+                field.set(this, locators.get(field.getAnnotation(Selector.class).value()));
+            } catch (IllegalAccessException e) {
+                throw new PageException("Cannot inject @Selector field " + field.getName(), e);
+            }
+        }
     }
 
     /**
@@ -36,11 +100,14 @@ public abstract class BasePage {
      */
     public void navigateTo(String url) {
         logger.info("Navigating to: {}", url);
+        PageNavigationEvent event = PageNavigationEvent.start(url);
         try {
             page.navigate(url);
             waitForPageLoad();
         } catch (Exception e) {
             throw PageException.navigationFailed(url);
+        } finally {
+            event.close();
         }
     }
 
@@ -73,7 +140,7 @@ public abstract class BasePage {
         logger.debug("Clicking element: {}", selector);
         try {
             waitForElement(selector);
-            page.click(selector);
+            locators.first(selector).click();
         } catch (Exception e) {
             throw PageException.clickFailed(selector, e);
         }
@@ -95,7 +162,7 @@ public abstract class BasePage {
         logger.debug("Typing '{}' into element: {}", text, selector);
         try {
             waitForElement(selector);
-            page.fill(selector, text);
+            locators.first(selector).fill(text);
         } catch (Exception e) {
             throw PageException.typeFailed(selector, e);
         }
@@ -107,8 +174,9 @@ public abstract class BasePage {
     public void clearAndType(String selector, String text) {
         logger.debug("Clearing and typing '{}' into element: {}", text, selector);
         waitForElement(selector);
-        page.fill(selector, "");
-        page.fill(selector, text);
+        Locator locator = locators.first(selector);
+        locator.fill("");
+        locator.fill(text);
     }
 
     /**
@@ -117,7 +185,7 @@ public abstract class BasePage {
     public String getText(String selector) {
         logger.debug("Getting text from element: {}", selector);
         waitForElement(selector);
-        return page.textContent(selector);
+        return locators.first(selector).textContent();
     }
 
     /**
@@ -126,7 +194,7 @@ public abstract class BasePage {
     public String getAttribute(String selector, String attribute) {
         logger.debug("Getting attribute '{}' from element: {}", attribute, selector);
         waitForElement(selector);
-        return page.getAttribute(selector, attribute);
+        return locators.first(selector).getAttribute(attribute);
     }
 
     /**
@@ -134,7 +202,7 @@ public abstract class BasePage {
      */
     public boolean isVisible(String selector) {
         try {
-            return page.isVisible(selector);
+            return locators.first(selector).isVisible();
         } catch (Exception e) {
             return false;
         }
@@ -145,7 +213,7 @@ public abstract class BasePage {
      */
     public boolean isEnabled(String selector) {
         try {
-            return page.isEnabled(selector);
+            return locators.first(selector).isEnabled();
         } catch (Exception e) {
             return false;
         }
@@ -163,7 +231,7 @@ public abstract class BasePage {
      */
     public void waitForElement(String selector, int timeoutMs) {
         logger.debug("Waiting for element: {}", selector);
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        locators.first(selector).waitFor(new Locator.WaitForOptions()
             .setState(WaitForSelectorState.VISIBLE)
             .setTimeout(timeoutMs));
     }
@@ -173,7 +241,7 @@ public abstract class BasePage {
      */
     public void waitForElementToDisappear(String selector) {
         logger.debug("Waiting for element to disappear: {}", selector);
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        locators.first(selector).waitFor(new Locator.WaitForOptions()
             .setState(WaitForSelectorState.HIDDEN)
             .setTimeout(testConfig.getExplicitWait() * 1000));
     }
@@ -183,14 +251,14 @@ public abstract class BasePage {
      */
     public void scrollToElement(String selector) {
         logger.debug("Scrolling to element: {}", selector);
-        page.locator(selector).scrollIntoViewIfNeeded();
+        locators.get(selector).scrollIntoViewIfNeeded();
     }
 
     /**
      * Get locator
      */
     public Locator getLocator(String selector) {
-        return page.locator(selector);
+        return locators.get(selector);
     }
 
     /**
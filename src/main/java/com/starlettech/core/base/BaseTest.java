@@ -13,25 +13,48 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
 
-import com.starlettech.annotations.Browser;
 import com.starlettech.config.BrowserConfig;
 import com.starlettech.config.TestConfig;
 import com.starlettech.core.RetryAnalyzer;
+import com.starlettech.core.QuarantineManager;
+import com.starlettech.core.TestAnnotationProcessor;
 import com.starlettech.core.TestMetricsCollector;
+import com.starlettech.core.api.ApiClient;
+import com.starlettech.core.managers.BrowserPool;
 import com.starlettech.core.managers.DynamicConfigManager;
+import com.starlettech.core.managers.MultiPageSession;
+import com.starlettech.core.managers.ParallelismController;
+import com.starlettech.core.metrics.MetricsExporter;
+import com.starlettech.core.metrics.PhaseTimer;
+import com.starlettech.core.metrics.TestHistoryStore;
+import com.starlettech.core.metrics.TestPhase;
+import com.starlettech.core.metrics.events.PageNavigationEvent;
+import com.starlettech.core.network.HarManager;
+import com.starlettech.core.network.RequestBlocker;
+import com.starlettech.core.network.StaticAssetCache;
 import com.starlettech.core.managers.PlaywrightManager;
 import com.starlettech.core.managers.ResourceCleanupManager;
 import com.starlettech.core.managers.ThreadLocalManager;
 import com.starlettech.enums.BrowserType;
 import com.starlettech.listeners.AnnotationIntegrationListener;
+import com.starlettech.listeners.BrowserAffinityInterceptor;
+import com.starlettech.listeners.ImpactSelectionInterceptor;
+import com.starlettech.listeners.LoadTestHook;
+import com.starlettech.listeners.QuarantineListener;
+import com.starlettech.listeners.SelectorValidationListener;
+import com.starlettech.listeners.ShardMethodInterceptor;
 import com.starlettech.listeners.TestListener;
+import com.starlettech.listeners.TestOrderingInterceptor;
 import com.starlettech.utils.DatabaseUtils;
+import com.starlettech.utils.ScreenshotStrategy;
 import com.starlettech.utils.ScreenshotUtils;
 
 /**
  * Base Test class for UI tests
  */
-@Listeners({TestListener.class, AnnotationIntegrationListener.class})
+@Listeners({TestListener.class, AnnotationIntegrationListener.class, ImpactSelectionInterceptor.class,
+    ShardMethodInterceptor.class, TestOrderingInterceptor.class, BrowserAffinityInterceptor.class,
+    QuarantineListener.class, LoadTestHook.class, SelectorValidationListener.class})
 public abstract class BaseTest {
     protected final Logger logger = LogManager.getLogger(this.getClass());
     protected TestConfig testConfig;
@@ -48,6 +71,9 @@ public abstract class BaseTest {
         // Initialize framework components
         ResourceCleanupManager.initialize();
         TestMetricsCollector.reset();
+        TestHistoryStore.getInstance();
+        MetricsExporter.startIfEnabled();
+        ParallelismController.startIfEnabled();
     }
 
     @BeforeClass(alwaysRun = true)
@@ -65,6 +91,7 @@ public abstract class BaseTest {
         // Set up thread-local tracking
         ThreadLocalManager.setCurrentTestName(testName);
         ThreadLocalManager.setTestStartTime(System.currentTimeMillis());
+        PhaseTimer.beginTest(className, testName);
 
         // Get browser type from annotation or use default
         BrowserType browserType = getBrowserType(method);
@@ -73,11 +100,29 @@ public abstract class BaseTest {
         // Record test start in metrics
         TestMetricsCollector.recordTestStart(testName, className, browserType.name(), environment);
 
+        // Wait for a slot when adaptive parallelism is throttling
+        ParallelismController.acquire();
+
         // Initialize Playwright and create browser
-        PlaywrightManager.initializePlaywright();
-        PlaywrightManager.launchBrowser(browserType);
-        PlaywrightManager.createContext();
-        PlaywrightManager.createPage();
+        PhaseTimer launchTimer = PhaseTimer.start(TestPhase.BROWSER_LAUNCH);
+        try {
+            BrowserPool.acquire(browserType);
+        } finally {
+            launchTimer.close();
+        }
+        PhaseTimer contextTimer = PhaseTimer.start(TestPhase.CONTEXT_CREATE);
+        try {
+            PlaywrightManager.createContext(TestAnnotationProcessor.resolveBlockCategories(method, getClass()),
+                HarManager.resolveHarName(method, getClass()));
+        } finally {
+            contextTimer.close();
+        }
+        PhaseTimer pageTimer = PhaseTimer.start(TestPhase.PAGE_CREATE);
+        try {
+            PlaywrightManager.createPage();
+        } finally {
+            pageTimer.close();
+        }
 
         // Store resources in ThreadLocalManager
         ThreadLocalManager.setPlaywright(PlaywrightManager.getPlaywright());
@@ -86,21 +131,26 @@ public abstract class BaseTest {
         ThreadLocalManager.setPage(PlaywrightManager.getPage());
 
         logger.info("Test setup completed for method: {}", testName);
+        PhaseTimer.startBody();
     }
 
     @AfterMethod(alwaysRun = true)
     public void afterMethod(ITestResult result) {
+        PhaseTimer.endBody();
         String methodName = result.getMethod().getMethodName();
         String className = this.getClass().getSimpleName();
         long executionTime = ThreadLocalManager.getTestDuration();
 
         // Determine test result
         TestMetricsCollector.TestResult testResult;
-        if (result.getStatus() == ITestResult.FAILURE) {
+        boolean quarantined = result.getAttribute(QuarantineManager.QUARANTINED_ATTRIBUTE) != null;
+        if (result.getStatus() == ITestResult.FAILURE || quarantined) {
+            // Quarantined failures are reported as skipped but still count as failures in metrics and history
             testResult = TestMetricsCollector.TestResult.FAILED;
             logger.error("Test method failed: {}", methodName);
             if (testConfig.isScreenshotOnFailure()) {
-                screenshotUtils.takeScreenshot(methodName + "_failure");
+                screenshotUtils.takeScreenshot(methodName + "_failure",
+                    ScreenshotStrategy.forTestMethod(result.getMethod().getConstructorOrMethod().getMethod()));
             }
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             testResult = TestMetricsCollector.TestResult.PASSED;
@@ -113,14 +163,29 @@ public abstract class BaseTest {
         // Record test completion in metrics
         TestMetricsCollector.recordTestCompletion(methodName, className, testResult, executionTime, result.getThrowable());
 
+        TestHistoryStore.getInstance().record(TestHistoryStore.keyOf(this.getClass().getName(), methodName),
+            testResult, executionTime, RetryAnalyzer.getCurrentRetryCount());
+
+        RequestBlocker.BlockStats blockStats = RequestBlocker.takeStats();
+        if (blockStats != null) {
+            TestMetricsCollector.recordBlockedRequests(methodName, className, blockStats.getRequests(), blockStats.getKnownBytes());
+        }
+
         // Check if this was a retry
         if (RetryAnalyzer.getCurrentRetryCount() > 0) {
             TestMetricsCollector.recordTestRetry(methodName, className);
         }
 
         // Cleanup resources
-        ThreadLocalManager.cleanupCurrentThread();
-        DynamicConfigManager.cleanup();
+        PhaseTimer timer = PhaseTimer.start(TestPhase.TEARDOWN);
+        try {
+            BrowserPool.release();
+            ThreadLocalManager.cleanupCurrentTest();
+            DynamicConfigManager.cleanup();
+        } finally {
+            timer.close();
+            ParallelismController.release();
+        }
 
         logger.info("Test cleanup completed for method: {} (Duration: {}ms)", methodName, executionTime);
     }
@@ -136,8 +201,16 @@ public abstract class BaseTest {
 
         // Print test metrics summary
         TestMetricsCollector.printSummary();
+        QuarantineManager.printSummary();
+        StaticAssetCache.logSummary();
 
         // Cleanup framework resources
+        MetricsExporter.stop();
+        ParallelismController.stop();
+        TestHistoryStore.getInstance().close();
+        TestHistoryStore.getInstance().writeDurationSnapshot();
+        BrowserPool.shutdown();
+        ApiClient.shutdown();
         ResourceCleanupManager.shutdown();
         DatabaseUtils.closeAllConnections();
     }
@@ -146,20 +219,7 @@ public abstract class BaseTest {
      * Get browser type from method or class annotation
      */
     private BrowserType getBrowserType(Method method) {
-        // Check method level annotation first
-        Browser browserAnnotation = method.getAnnotation(Browser.class);
-        if (browserAnnotation != null) {
-            return browserAnnotation.value();
-        }
-
-        // Check class level annotation
-        browserAnnotation = this.getClass().getAnnotation(Browser.class);
-        if (browserAnnotation != null) {
-            return browserAnnotation.value();
-        }
-
-        // Use default from configuration
-        return browserConfig.getBrowserType();
+        return TestAnnotationProcessor.resolveBrowserType(method, this.getClass());
     }
 
     /**
@@ -181,7 +241,20 @@ public abstract class BaseTest {
      */
     protected void navigateTo(String url) {
         logger.info("Navigating to: {}", url);
-        PlaywrightManager.getPage().navigate(url);
+        PageNavigationEvent event = PageNavigationEvent.start(url);
+        try {
+            PlaywrightManager.getPage().navigate(url);
+        } finally {
+            event.close();
+        }
+    }
+
+    /**
+     * Open a parallel session with its own page per actor, on this test's browser type; close it when done
+     */
+    protected MultiPageSession openSession(String... actors) {
+        return MultiPageSession.open(PlaywrightManager.getBrowserType() != null
+            ? PlaywrightManager.getBrowserType() : browserConfig.getBrowserType(), actors);
     }
 
     /**
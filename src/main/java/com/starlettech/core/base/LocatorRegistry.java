@@ -0,0 +1,53 @@
+package com.starlettech.core.base;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.starlettech.exceptions.PageException;
+
+/**
+ * Locators of one page object, created lazily per selector and reused between actions.
+ * Each selector is syntax-checked once on first use. Playwright locators are lazy and resolve
+ * the selector again on every action, so cached locators stay valid across navigations.
+ */
+public class LocatorRegistry {
+    private final Page page;
+    private final String pageName;
+    private final Map<String, Locator> locators = new HashMap<>();
+    private final Map<String, Locator> firstMatches = new HashMap<>();
+
+    public LocatorRegistry(Page page, String pageName) {
+        this.page = page;
+        this.pageName = pageName;
+    }
+
+    /**
+     * Strict locator for a selector
+     */
+    public synchronized Locator get(String selector) {
+        Locator locator = locators.get(selector);
+        if (locator == null) {
+            String error = SelectorValidator.validate(selector);
+            if (error != null) {
+                throw PageException.invalidSelector(selector, pageName, error);
+            }
+            locator = page.locator(selector);
+            locators.put(selector, locator);
+        }
+        return locator;
+    }
+
+    /**
+     * Locator for the first element matching a selector, like page.click(selector) and friends
+     */
+    public synchronized Locator first(String selector) {
+        Locator base = get(selector);
+        return firstMatches.computeIfAbsent(selector, key -> base.first());
+    }
+
+    public synchronized int size() {
+        return locators.size();
+    }
+}
@@ -0,0 +1,153 @@
+package com.starlettech.core.base;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JVM-side syntax check of Playwright selectors, so typos fail when a page object is created
+ * rather than after a browser wait times out. Checks chain parts (>>), selector engines,
+ * balanced quotes and brackets, and dangling CSS combinators; it does not query the page.
+ */
+public class SelectorValidator {
+    private static final Pattern ENGINE_PREFIX = Pattern.compile("^\\s*([a-zA-Z_0-9+:*-]+)=");
+    private static final Set<String> ENGINES = Set.of("css", "xpath", "text", "id", "data-testid", "data-test-id",
+        "data-test", "nth", "visible", "role", "_react", "_vue");
+    private static final Set<String> LITERAL_ENGINES = Set.of("text", "id", "data-testid", "data-test-id", "data-test");
+
+    /**
+     * Return why a selector is invalid, or null when it is valid
+     */
+    public static String validate(String selector) {
+        if (selector == null || selector.isBlank()) {
+            return "empty selector";
+        }
+        for (String part : splitChain(selector)) {
+            String error = validatePart(part.trim());
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    private static String validatePart(String part) {
+        if (part.isEmpty()) {
+            return "empty part in selector chain";
+        }
+        Matcher engine = ENGINE_PREFIX.matcher(part);
+        if (engine.find()) {
+            String name = engine.group(1).toLowerCase();
+            String body = part.substring(engine.end()).trim();
+            if (!ENGINES.contains(name) && !name.startsWith("internal:")) {
+                return "unknown selector engine '" + name + "'";
+            }
+            if (body.isEmpty()) {
+                return "empty " + name + " selector";
+            }
+            if (name.equals("nth") && !body.matches("-?\\d+")) {
+                return "nth expects an integer index";
+            }
+            if (name.equals("css")) {
+                return validateCss(body);
+            }
+            if (LITERAL_ENGINES.contains(name) && !body.startsWith("\"") && !body.startsWith("'")) {
+                // Unquoted text and attribute values are taken literally
+                return null;
+            }
+            return balanced(body);
+        }
+        if (part.startsWith("//") || part.startsWith("..") || part.startsWith("\"") || part.startsWith("'")) {
+            return balanced(part);
+        }
+        return validateCss(part);
+    }
+
+    private static String validateCss(String css) {
+        String error = balanced(css);
+        if (error != null) {
+            return error;
+        }
+        // Combinators need a right-hand side, and selector lists no empty items
+        String unquoted = css.replaceAll("\"(\\\\.|[^\"\\\\])*\"|'(\\\\.|[^'\\\\])*'", "\"\"").trim();
+        char last = unquoted.charAt(unquoted.length() - 1);
+        if (last == '>' || last == '+' || last == '~' || last == ',') {
+            return "dangling '" + last + "' in CSS selector";
+        }
+        if (unquoted.startsWith(",") || unquoted.matches(".*,\\s*,.*")) {
+            return "empty item in CSS selector list";
+        }
+        return null;
+    }
+
+    /**
+     * Check that quotes, brackets and parentheses are closed in order
+     */
+    private static String balanced(String text) {
+        Deque<Character> open = new ArrayDeque<>();
+        char quote = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'' || c == '`') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                open.push(c);
+            } else if (c == ')' || c == ']') {
+                char expected = c == ')' ? '(' : '[';
+                if (open.isEmpty() || open.pop() != expected) {
+                    return "unexpected '" + c + "' at position " + i;
+                }
+            }
+        }
+        if (quote != 0) {
+            return "unclosed " + quote;
+        }
+        if (!open.isEmpty()) {
+            return "unclosed '" + open.peek() + "'";
+        }
+        return null;
+    }
+
+    /**
+     * Split on >> outside quotes and brackets
+     */
+    private static List<String> splitChain(String selector) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'' || c == '`') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == ']') {
+                depth--;
+            } else if (depth == 0 && c == '>' && i + 1 < selector.length() && selector.charAt(i + 1) == '>') {
+                parts.add(selector.substring(start, i));
+                start = i + 2;
+                i++;
+            }
+        }
+        // An unmatched quote may be literal text (text=Don't); the parts are checked individually
+        parts.add(selector.substring(start));
+        return parts;
+    }
+}
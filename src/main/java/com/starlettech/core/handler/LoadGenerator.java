@@ -0,0 +1,321 @@
+package com.starlettech.core.handler;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.starlettech.annotations.PerformanceTest;
+import com.starlettech.annotations.PerformanceTest.LoadModel;
+import com.starlettech.annotations.PerformanceTest.PerformanceType;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.api.ApiClient;
+import com.starlettech.core.handler.PerformanceTestHandler.PerformanceMetrics;
+
+/**
+ * Load generator for @PerformanceTest, running a request on virtual threads for duration seconds.
+ * Closed model: concurrentUsers users each send the next request as soon as the previous one completed,
+ * with the number of active users following the LoadProfile of the test type.
+ * Open model: requests are scheduled at expectedThroughput per second (shaped by the same profile)
+ * regardless of how earlier ones are doing, and run by at most concurrentUsers workers. Latency is
+ * measured from the scheduled start, so a slow system cannot hide its backlog by delaying the next
+ * request (coordinated omission); the wait for a free worker is also recorded as queueing delay.
+ * Every request is timed into the test's PerformanceMetrics; exceptions and assertion failures count
+ * as failed requests. Requests must not use the test thread's browser page; each virtual user or worker
+ * borrows its own ApiClient session from a pool that is warmed up before the measurement window starts
+ * (performance.api.warmup), so Playwright driver startup is never measured and drivers are reused by
+ * later load tests.
+ */
+public class LoadGenerator {
+    private static final Logger logger = LogManager.getLogger(LoadGenerator.class);
+    private static final long IDLE_PARK_NANOS = 20_000_000L;
+    private static final double SCHEDULE_TICK_SECONDS = 0.01;
+    private static final long END_OF_SCHEDULE = Long.MIN_VALUE;
+
+    /**
+     * Run load for the current test with its @PerformanceTest settings; call from the test method
+     */
+    public static LoadResult run(Runnable request) {
+        ITestResult current = Reporter.getCurrentTestResult();
+        if (current == null) {
+            throw new IllegalStateException("LoadGenerator.run(request) must be called from a running test method");
+        }
+        return run(current.getMethod().getConstructorOrMethod().getMethod(), request);
+    }
+
+    /**
+     * Run load with the @PerformanceTest settings of a test method, open model when load = OPEN
+     */
+    public static LoadResult run(Method testMethod, Runnable request) {
+        PerformanceTest settings = PerformanceTestHandler.getPerformanceAnnotation(testMethod);
+        if (settings == null) {
+            throw new IllegalArgumentException("No @PerformanceTest on " + testMethod.getName());
+        }
+        PerformanceMetrics metrics = PerformanceTestHandler.getActiveMetrics(testMethod);
+        boolean monitored = metrics != null;
+        if (!monitored) {
+            logger.warn("Performance monitoring is not active for {}, results are only returned", testMethod.getName());
+            metrics = new PerformanceMetrics(settings);
+        }
+        Duration duration = Duration.ofSeconds(settings.duration());
+        try {
+            if (settings.load() == LoadModel.OPEN) {
+                return runOpen(settings.type(), settings.expectedThroughput(), settings.concurrentUsers(), duration,
+                    metrics, request);
+            }
+            return run(settings.type(), settings.concurrentUsers(), duration, metrics, request);
+        } finally {
+            if (!monitored) {
+                metrics.stopMonitoring();
+            }
+        }
+    }
+
+    /**
+     * Run closed-model load with explicit settings, recording into the given metrics
+     */
+    public static LoadResult run(PerformanceType type, int users, Duration duration, PerformanceMetrics metrics,
+                                 Runnable request) {
+        validate(users, duration);
+        warmUp(users);
+        logger.info("Starting closed {} load: {} users for {}s", type, users, duration.toSeconds());
+        LoadState state = new LoadState(type, users, duration.toNanos(), metrics, request);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int index = i;
+                executor.submit(() -> runUser(index, state));
+            }
+        }
+        return finish(state);
+    }
+
+    /**
+     * Run open-model load at ratePerSecond with at most maxInFlight concurrent requests
+     */
+    public static LoadResult runOpen(PerformanceType type, double ratePerSecond, int maxInFlight, Duration duration,
+                                     PerformanceMetrics metrics, Runnable request) {
+        validate(maxInFlight, duration);
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Open-model load needs a positive arrival rate (expectedThroughput)");
+        }
+        warmUp(maxInFlight);
+        logger.info("Starting open {} load: {} req/s, up to {} in flight for {}s", type, ratePerSecond, maxInFlight,
+            duration.toSeconds());
+        LoadState state = new LoadState(type, maxInFlight, duration.toNanos(), metrics, request);
+        BlockingQueue<Long> schedule = new LinkedBlockingQueue<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < maxInFlight; i++) {
+                executor.submit(() -> runWorker(schedule, state));
+            }
+            try {
+                dispatch(schedule, ratePerSecond, state);
+            } finally {
+                for (int i = 0; i < maxInFlight; i++) {
+                    schedule.add(END_OF_SCHEDULE);
+                }
+            }
+        }
+        return finish(state);
+    }
+
+    /**
+     * Release arrivals at their scheduled times. The rate is piecewise constant per tick, and the fraction
+     * of an arrival accumulated at the end of a tick carries over, so any rate and ramp is followed exactly.
+     */
+    private static void dispatch(BlockingQueue<Long> schedule, double ratePerSecond, LoadState state) {
+        double durationSeconds = (state.end - state.start) / 1e9;
+        double t = 0;
+        double credit = 0;
+        while (t < durationSeconds) {
+            double rate = ratePerSecond * LoadProfile.loadFraction(state.type, t / durationSeconds);
+            double tickEnd = Math.min(t + SCHEDULE_TICK_SECONDS, durationSeconds);
+            double next = rate > 0 ? t + (1 - credit) / rate : Double.MAX_VALUE;
+            if (next > tickEnd) {
+                credit += rate * (tickEnd - t);
+                t = tickEnd;
+                continue;
+            }
+            t = next;
+            credit = 0;
+            long intended = state.start + (long) (t * 1e9);
+            long delay;
+            while ((delay = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            schedule.add(intended);
+        }
+    }
+
+    private static void runWorker(BlockingQueue<Long> schedule, LoadState state) {
+        ApiClient.attach();
+        try {
+            while (true) {
+                long intended = schedule.take();
+                if (intended == END_OF_SCHEDULE) {
+                    return;
+                }
+                long queueingDelay = System.nanoTime() - intended;
+                state.metrics.recordQueueingDelayNanos(Math.max(0, queueingDelay));
+                state.peakUsers.accumulateAndGet(state.activeUsers.incrementAndGet(), Math::max);
+                try {
+                    execute(state, intended);
+                } finally {
+                    state.activeUsers.decrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ApiClient.detach();
+        }
+    }
+
+    private static void runUser(int index, LoadState state) {
+        ApiClient.attach();
+        boolean active = false;
+        try {
+            long now;
+            while ((now = System.nanoTime()) < state.end) {
+                double progress = (now - state.start) / (double) (state.end - state.start);
+                if (index >= LoadProfile.activeUsers(state.type, state.users, progress)) {
+                    if (active) {
+                        state.activeUsers.decrementAndGet();
+                        active = false;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                if (!active) {
+                    state.peakUsers.accumulateAndGet(state.activeUsers.incrementAndGet(), Math::max);
+                    active = true;
+                }
+                execute(state, System.nanoTime());
+            }
+        } finally {
+            if (active) {
+                state.activeUsers.decrementAndGet();
+            }
+            ApiClient.detach();
+        }
+    }
+
+    /**
+     * Run the request once, recording its latency from latencyStart
+     */
+    private static void execute(LoadState state, long latencyStart) {
+        try {
+            state.request.run();
+            state.metrics.recordRequestNanos(System.nanoTime() - latencyStart, false);
+        } catch (Exception | AssertionError e) {
+            state.metrics.recordRequestNanos(System.nanoTime() - latencyStart, true);
+            state.errors.incrementAndGet();
+            if (state.firstError.compareAndSet(null, e)) {
+                logger.warn("First failed load request: {}", e.toString());
+            }
+        }
+        state.iterations.incrementAndGet();
+    }
+
+    /**
+     * Start one ApiClient session per user before the load state, and with it the measurement window, begins
+     */
+    private static void warmUp(int users) {
+        if (TestConfig.getInstance().isPerformanceApiWarmUp()) {
+            ApiClient.warmUp(users);
+        }
+    }
+
+    private static void validate(int users, Duration duration) {
+        if (users < 1 || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Load needs at least one user and a positive duration");
+        }
+    }
+
+    private static LoadResult finish(LoadState state) {
+        LoadResult result = new LoadResult(state.type, state.users, state.peakUsers.get(), state.iterations.get(),
+            state.errors.get(), (System.nanoTime() - state.start) / 1_000_000, state.firstError.get());
+        logger.info("Finished {} load: {} requests, {} errors, peak {} concurrent, {} req/s",
+            state.type, result.getIterations(), result.getErrors(), result.getPeakUsers(),
+            String.format("%.2f", result.getThroughput()));
+        return result;
+    }
+
+    /**
+     * Shared state of one load run
+     */
+    private static class LoadState {
+        private final PerformanceType type;
+        private final int users;
+        private final long start = System.nanoTime();
+        private final long end;
+        private final PerformanceMetrics metrics;
+        private final Runnable request;
+        private final AtomicInteger activeUsers = new AtomicInteger();
+        private final AtomicInteger peakUsers = new AtomicInteger();
+        private final AtomicLong iterations = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        private LoadState(PerformanceType type, int users, long durationNanos, PerformanceMetrics metrics, Runnable request) {
+            this.type = type;
+            this.users = users;
+            this.end = start + durationNanos;
+            this.metrics = metrics;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Outcome of a load run
+     */
+    public static class LoadResult {
+        private final PerformanceType type;
+        private final int users;
+        private final int peakUsers;
+        private final long iterations;
+        private final long errors;
+        private final long durationMs;
+        private final Throwable firstError;
+
+        public LoadResult(PerformanceType type, int users, int peakUsers, long iterations, long errors,
+                          long durationMs, Throwable firstError) {
+            this.type = type;
+            this.users = users;
+            this.peakUsers = peakUsers;
+            this.iterations = iterations;
+            this.errors = errors;
+            this.durationMs = durationMs;
+            this.firstError = firstError;
+        }
+
+        public double getThroughput() {
+            return durationMs > 0 ? iterations * 1000.0 / durationMs : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("LoadResult{%s, users=%d, peak=%d, requests=%d, errors=%d, %.2f req/s}",
+                type, users, peakUsers, iterations, errors, getThroughput());
+        }
+
+        // Getters
+        public PerformanceType getType() { return type; }
+        public int getUsers() { return users; }
+        public int getPeakUsers() { return peakUsers; }
+        public long getIterations() { return iterations; }
+        public long getErrors() { return errors; }
+        public long getDurationMs() { return durationMs; }
+        public Throwable getFirstError() { return firstError; }
+    }
+}
@@ -0,0 +1,45 @@
+package com.starlettech.core.handler;
+
+import com.starlettech.annotations.PerformanceTest.PerformanceType;
+
+/**
+ * Shape of a load test over its duration, per performance test type: active users for closed-model
+ * load and the share of the target arrival rate for open-model load
+ */
+public class LoadProfile {
+    private static final double LOAD_RAMP = 0.10;
+    private static final double ENDURANCE_RAMP = 0.05;
+    private static final int STRESS_STEPS = 5;
+    private static final double SPIKE_START = 0.4;
+    private static final double SPIKE_END = 0.6;
+    private static final double SPIKE_BASELINE = 0.1;
+
+    /**
+     * Users that should be active at the given progress (0.0 to 1.0) of the test duration
+     */
+    public static int activeUsers(PerformanceType type, int users, double progress) {
+        int active = (int) Math.ceil(users * loadFraction(type, progress) - 1e-9);
+        return Math.max(1, Math.min(users, active));
+    }
+
+    /**
+     * Fraction of the full load (users or arrival rate) at the given progress (0.0 to 1.0):
+     * LOAD ramps up linearly over the first 10% and holds, ENDURANCE over the first 5%,
+     * STRESS adds load in 5 equal steps, SPIKE jumps from 10% to full load for the middle 20%,
+     * VOLUME applies full load from the start
+     */
+    public static double loadFraction(PerformanceType type, double progress) {
+        double p = Math.max(0.0, Math.min(1.0, progress));
+        return switch (type) {
+            case LOAD -> ramp(p, LOAD_RAMP);
+            case ENDURANCE -> ramp(p, ENDURANCE_RAMP);
+            case STRESS -> Math.min(STRESS_STEPS, Math.floor(p * STRESS_STEPS) + 1) / STRESS_STEPS;
+            case SPIKE -> p >= SPIKE_START && p < SPIKE_END ? 1.0 : SPIKE_BASELINE;
+            case VOLUME -> 1.0;
+        };
+    }
+
+    private static double ramp(double progress, double rampFraction) {
+        return Math.min(1.0, progress / rampFraction);
+    }
+}
@@ -1,19 +1,18 @@
 package com.starlettech.core.handler;
 
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.starlettech.annotations.PerformanceTest;
-import com.sun.management.OperatingSystemMXBean;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.metrics.LogLinearHistogram;
+import com.starlettech.core.metrics.SystemMetricsSampler;
 
 /**
  * Handler for performance test monitoring and validation
@@ -21,8 +20,8 @@ import com.sun.management.OperatingSystemMXBean;
 public class PerformanceTestHandler {
     private static final Logger logger = LogManager.getLogger(PerformanceTestHandler.class);
     private static final ConcurrentHashMap<String, PerformanceMetrics> activeTests = new ConcurrentHashMap<>();
-    private static final OperatingSystemMXBean osBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
-    private static final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private static final ConcurrentHashMap<String, PerformanceResult> completedTests = new ConcurrentHashMap<>();
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 95, 99, 99.9};
 
     /**
      * Start performance monitoring for a test
@@ -35,7 +34,11 @@ public class PerformanceTestHandler {
 
         String testKey = testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
         PerformanceMetrics metrics = new PerformanceMetrics(annotation);
-        activeTests.put(testKey, metrics);
+        completedTests.remove(testKey);
+        PerformanceMetrics previous = activeTests.put(testKey, metrics);
+        if (previous != null) {
+            previous.stopMonitoring();
+        }
 
         logger.info("Started performance monitoring for test: {} with maxResponseTime: {}ms, concurrentUsers: {}", 
                    testKey, annotation.maxResponseTime(), annotation.concurrentUsers());
@@ -44,7 +47,7 @@ public class PerformanceTestHandler {
     }
 
     /**
-     * Stop performance monitoring and validate results
+     * Stop performance monitoring and validate results; later calls for the same test return the same result
      */
     public static PerformanceResult stopPerformanceMonitoring(Method testMethod) {
         PerformanceTest annotation = getPerformanceAnnotation(testMethod);
@@ -56,12 +59,16 @@ public class PerformanceTestHandler {
         PerformanceMetrics metrics = activeTests.remove(testKey);
         
         if (metrics == null) {
-            logger.warn("No performance metrics found for test: {}", testKey);
-            return null;
+            PerformanceResult completed = completedTests.get(testKey);
+            if (completed == null) {
+                logger.warn("No performance metrics found for test: {}", testKey);
+            }
+            return completed;
         }
 
         metrics.stopMonitoring();
         PerformanceResult result = validatePerformance(metrics, annotation);
+        completedTests.put(testKey, result);
 
         logger.info("Performance monitoring completed for test: {} - Result: {}", 
                    testKey, result.isPassed() ? "PASSED" : "FAILED");
@@ -81,10 +88,27 @@ public class PerformanceTestHandler {
         }
     }
 
+    /**
+     * Record a failed request for performance tracking
+     */
+    public static void recordFailedRequest(Method testMethod, long responseTime) {
+        PerformanceMetrics metrics = getActiveMetrics(testMethod);
+        if (metrics != null) {
+            metrics.recordFailedRequest(responseTime);
+        }
+    }
+
+    /**
+     * Metrics of a test that is currently being monitored, or null
+     */
+    public static PerformanceMetrics getActiveMetrics(Method testMethod) {
+        return activeTests.get(testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName());
+    }
+
     /**
      * Get performance annotation from method or class
      */
-    private static PerformanceTest getPerformanceAnnotation(Method method) {
+    public static PerformanceTest getPerformanceAnnotation(Method method) {
         PerformanceTest methodAnnotation = method.getAnnotation(PerformanceTest.class);
         if (methodAnnotation != null) {
             return methodAnnotation;
@@ -99,15 +123,21 @@ public class PerformanceTestHandler {
         PerformanceResult result = new PerformanceResult();
         result.setMetrics(metrics);
 
-        // Validate response time
-        if (metrics.getMaxResponseTime() > annotation.maxResponseTime()) {
-            result.addViolation("Max response time exceeded: " + metrics.getMaxResponseTime() + "ms > " + annotation.maxResponseTime() + "ms");
+        // Validate response time percentiles; a single outlier does not fail a run, only the tail beyond p99.
+        // maxResponseTime is the p99 threshold only for tests that do not set p99ResponseTime
+        if (metrics.getRequestCount() > 0) {
+            long p99Threshold = annotation.p99ResponseTime() > 0
+                ? annotation.p99ResponseTime() : annotation.maxResponseTime();
+            validatePercentile(result, metrics, 90.0, annotation.p90ResponseTime());
+            validatePercentile(result, metrics, 95.0, annotation.p95ResponseTime());
+            validatePercentile(result, metrics, 99.0, p99Threshold);
+            validatePercentile(result, metrics, 99.9, annotation.p999ResponseTime());
         }
 
-        // Validate average response time (should be within 70% of max allowed)
-        double avgThreshold = annotation.maxResponseTime() * 0.7;
-        if (metrics.getAverageResponseTime() > avgThreshold) {
-            result.addViolation("Average response time too high: " + metrics.getAverageResponseTime() + "ms > " + avgThreshold + "ms");
+        // Validate error rate
+        double errorRate = metrics.getErrorRate() * 100;
+        if (errorRate > annotation.maxErrorRate()) {
+            result.addViolation(String.format("Error rate exceeded: %.2f%% > %.2f%%", errorRate, annotation.maxErrorRate()));
         }
 
         // Validate CPU usage
@@ -134,6 +164,24 @@ public class PerformanceTestHandler {
         return result;
     }
 
+    private static void validatePercentile(PerformanceResult result, PerformanceMetrics metrics, double percentile, long threshold) {
+        if (threshold <= 0) {
+            return;
+        }
+        double value = metrics.getResponseTimePercentile(percentile);
+        if (value > threshold) {
+            result.addViolation(String.format("p%s response time exceeded: %.1fms > %dms",
+                formatPercentile(percentile), value, threshold));
+        }
+    }
+
+    /**
+     * Percentile label such as 99 or 99.9
+     */
+    public static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
     /**
      * Performance metrics tracking class
      */
@@ -141,68 +189,81 @@ public class PerformanceTestHandler {
         private final PerformanceTest annotation;
         private final Instant startTime;
         private Instant endTime;
-        private final AtomicLong totalResponseTime = new AtomicLong(0);
-        private final AtomicInteger requestCount = new AtomicInteger(0);
-        private final AtomicLong maxResponseTime = new AtomicLong(0);
-        private final AtomicLong minResponseTime = new AtomicLong(Long.MAX_VALUE);
-        private volatile double maxCpuUsage = 0.0;
-        private volatile long maxMemoryUsage = 0L;
+        // Latency distributions in microseconds
+        private final LogLinearHistogram responseTimes = new LogLinearHistogram();
+        private final LogLinearHistogram queueingDelays = new LogLinearHistogram();
+        private final AtomicInteger errorCount = new AtomicInteger(0);
+        private final SystemMetricsSampler systemMetrics;
 
         public PerformanceMetrics(PerformanceTest annotation) {
             this.annotation = annotation;
             this.startTime = Instant.now();
-            updateSystemMetrics();
+            this.systemMetrics = SystemMetricsSampler.start(TestConfig.getInstance().getPerformanceSampleIntervalMs());
         }
 
         public void recordRequest(long responseTime) {
-            totalResponseTime.addAndGet(responseTime);
-            requestCount.incrementAndGet();
-            maxResponseTime.updateAndGet(current -> Math.max(current, responseTime));
-            minResponseTime.updateAndGet(current -> Math.min(current, responseTime));
-            updateSystemMetrics();
+            recordRequestNanos(responseTime * 1_000_000, false);
         }
 
-        public void stopMonitoring() {
-            this.endTime = Instant.now();
-            updateSystemMetrics();
+        public void recordFailedRequest(long responseTime) {
+            recordRequestNanos(responseTime * 1_000_000, true);
         }
 
-        private void updateSystemMetrics() {
-            // Update CPU usage
-            double cpuUsage = osBean.getProcessCpuLoad() * 100;
-            if (cpuUsage > 0) {
-                maxCpuUsage = Math.max(maxCpuUsage, cpuUsage);
+        /**
+         * Record a request with nanosecond precision
+         */
+        public void recordRequestNanos(long responseTimeNanos, boolean failed) {
+            responseTimes.record(responseTimeNanos / 1_000);
+            if (failed) {
+                errorCount.incrementAndGet();
             }
+        }
+
+        /**
+         * Record how long an open-model request waited between its scheduled and actual start
+         */
+        public void recordQueueingDelayNanos(long queueingDelayNanos) {
+            queueingDelays.record(queueingDelayNanos / 1_000);
+        }
 
-            // Update memory usage
-            long memoryUsage = memoryBean.getHeapMemoryUsage().getUsed() / (1024 * 1024); // Convert to MB
-            maxMemoryUsage = Math.max(maxMemoryUsage, memoryUsage);
+        public void stopMonitoring() {
+            if (endTime == null) {
+                this.endTime = Instant.now();
+            }
+            systemMetrics.stop();
         }
 
         // Getters
         public double getAverageResponseTime() {
-            return requestCount.get() > 0 ? (double) totalResponseTime.get() / requestCount.get() : 0;
+            return responseTimes.getMean() / 1_000;
         }
 
         public long getMaxResponseTime() {
-            return maxResponseTime.get();
+            return responseTimes.getMax() / 1_000;
         }
 
         public long getMinResponseTime() {
-            return minResponseTime.get() == Long.MAX_VALUE ? 0 : minResponseTime.get();
+            return responseTimes.getMin() / 1_000;
+        }
+
+        /**
+         * Response time in milliseconds that the given percentage (0-100) of requests stayed within
+         */
+        public double getResponseTimePercentile(double percentile) {
+            return responseTimes.getValueAtPercentile(percentile) / 1_000.0;
         }
 
         public double getThroughput() {
             long duration = Duration.between(startTime, endTime != null ? endTime : Instant.now()).toSeconds();
-            return duration > 0 ? (double) requestCount.get() / duration : 0;
+            return duration > 0 ? (double) getRequestCount() / duration : 0;
         }
 
         public double getMaxCpuUsage() {
-            return maxCpuUsage;
+            return systemMetrics.getMaxCpuPercent();
         }
 
         public long getMaxMemoryUsage() {
-            return maxMemoryUsage;
+            return systemMetrics.getMaxHeapUsedMb();
         }
 
         public long getActualDuration() {
@@ -210,7 +271,61 @@ public class PerformanceTestHandler {
         }
 
         public int getRequestCount() {
-            return requestCount.get();
+            return (int) responseTimes.getCount();
+        }
+
+        public int getErrorCount() {
+            return errorCount.get();
+        }
+
+        /**
+         * Reported response time percentiles, e.g. "p50=12.0ms, p90=30.5ms, ..."
+         */
+        public String getPercentileSummary() {
+            return percentileSummary(responseTimes);
+        }
+
+        public String getQueueingDelaySummary() {
+            return percentileSummary(queueingDelays);
+        }
+
+        private static String percentileSummary(LogLinearHistogram histogram) {
+            StringBuilder summary = new StringBuilder();
+            for (double percentile : REPORTED_PERCENTILES) {
+                if (summary.length() > 0) {
+                    summary.append(", ");
+                }
+                summary.append(String.format("p%s=%.1fms", formatPercentile(percentile),
+                    histogram.getValueAtPercentile(percentile) / 1_000.0));
+            }
+            return summary.toString();
+        }
+
+        public double getAverageQueueingDelay() {
+            return queueingDelays.getMean() / 1_000;
+        }
+
+        public long getMaxQueueingDelay() {
+            return queueingDelays.getMax() / 1_000;
+        }
+
+        public double getQueueingDelayPercentile(double percentile) {
+            return queueingDelays.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        public boolean hasQueueingDelay() {
+            return queueingDelays.getCount() > 0;
+        }
+
+        public double getErrorRate() {
+            return getRequestCount() > 0 ? (double) errorCount.get() / getRequestCount() : 0;
+        }
+
+        /**
+         * CPU, heap, GC, thread and browser memory samples taken while the test ran
+         */
+        public SystemMetricsSampler getSystemMetrics() {
+            return systemMetrics;
         }
 
         public PerformanceTest getAnnotation() {
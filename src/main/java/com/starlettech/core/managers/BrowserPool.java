@@ -0,0 +1,158 @@
+package com.starlettech.core.managers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import com.starlettech.config.BrowserConfig;
+import com.starlettech.enums.BrowserType;
+
+/**
+ * Keeps warm browsers between tests (browser.reuse).
+ * A test gets a fresh context on a warm browser when the BrowserType matches;
+ * a browser is relaunched only when a test needs a different type.
+ * <p>
+ * Without browser.affinity each worker thread keeps its own browser. With browser.affinity a worker
+ * hands its browser back to a shared idle pool after each test, and the next worker picks the idle
+ * browser of the type it needs, whichever thread launched it. Only when none matches does it take
+ * over the longest idle browser of another type and switch it, so the pool never holds more browsers
+ * than tests that ran at the same time.
+ */
+public class BrowserPool {
+    private static final Logger logger = LogManager.getLogger(BrowserPool.class);
+    private static final Set<Playwright> livePlaywrights = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger launches = new AtomicInteger();
+    private static final AtomicInteger reuses = new AtomicInteger();
+    private static final AtomicInteger switches = new AtomicInteger();
+    private static final Deque<WarmBrowser> idleBrowsers = new ArrayDeque<>();
+
+    /**
+     * Make a connected browser of the given type current for this thread
+     */
+    public static void acquire(BrowserType browserType) {
+        Playwright playwright = PlaywrightManager.getPlaywright();
+        if (playwright != null && !livePlaywrights.contains(playwright)) {
+            // Closed by shutdown() or a previous non-pooled cleanup
+            PlaywrightManager.detach();
+        }
+        if (BrowserConfig.getInstance().isBrowserAffinity() && PlaywrightManager.getBrowser() == null) {
+            WarmBrowser idle = takeIdle(browserType);
+            if (idle != null) {
+                PlaywrightManager.attach(idle.playwright, idle.browser, idle.browserType);
+            }
+        }
+
+        Browser browser = PlaywrightManager.getBrowser();
+        if (browser != null && browser.isConnected() && PlaywrightManager.getBrowserType() == browserType) {
+            reuses.incrementAndGet();
+            logger.debug("Reusing warm {} browser", browserType.getBrowserName());
+            return;
+        }
+        if (browser != null) {
+            switches.incrementAndGet();
+            logger.info("Switching browser {} -> {}", PlaywrightManager.getBrowserType(), browserType);
+            closeQuietly(PlaywrightManager::closeBrowser);
+        }
+
+        PlaywrightManager.initializePlaywright();
+        livePlaywrights.add(PlaywrightManager.getPlaywright());
+        PlaywrightManager.launchBrowser(browserType);
+        launches.incrementAndGet();
+    }
+
+    /**
+     * Close the current test's page and context; the browser stays warm when reuse is enabled,
+     * and goes back to the shared idle pool when affinity is enabled too
+     */
+    public static void release() {
+        closeQuietly(PlaywrightManager::closePage);
+        closeQuietly(PlaywrightManager::closeContext);
+        if (BrowserConfig.getInstance().isBrowserReuse()) {
+            Playwright playwright = PlaywrightManager.getPlaywright();
+            Browser browser = PlaywrightManager.getBrowser();
+            if (BrowserConfig.getInstance().isBrowserAffinity() && browser != null
+                    && livePlaywrights.contains(playwright)) {
+                synchronized (idleBrowsers) {
+                    idleBrowsers.addLast(new WarmBrowser(playwright, browser, PlaywrightManager.getBrowserType()));
+                }
+                PlaywrightManager.detach();
+            }
+        } else {
+            closeQuietly(PlaywrightManager::closeBrowser);
+            livePlaywrights.remove(PlaywrightManager.getPlaywright());
+            closeQuietly(PlaywrightManager::closePlaywright);
+        }
+    }
+
+    /**
+     * Close all pooled browsers; called once at suite end
+     */
+    public static void shutdown() {
+        synchronized (idleBrowsers) {
+            idleBrowsers.clear();
+        }
+        for (Playwright playwright : livePlaywrights) {
+            try {
+                playwright.close();
+            } catch (Exception e) {
+                logger.warn("Error closing pooled Playwright: {}", e.getMessage());
+            }
+        }
+        livePlaywrights.clear();
+        logger.info("Browser pool closed: {} launches, {} reuses, {} browser switches",
+            launches.get(), reuses.get(), switches.get());
+    }
+
+    // Getters
+    public static int getLaunches() { return launches.get(); }
+    public static int getReuses() { return reuses.get(); }
+    public static int getSwitches() { return switches.get(); }
+
+    /**
+     * Take the most recently idle browser of the given type, else the longest idle browser of any type
+     */
+    private static WarmBrowser takeIdle(BrowserType browserType) {
+        synchronized (idleBrowsers) {
+            Iterator<WarmBrowser> newestFirst = idleBrowsers.descendingIterator();
+            while (newestFirst.hasNext()) {
+                WarmBrowser idle = newestFirst.next();
+                if (idle.browserType == browserType) {
+                    newestFirst.remove();
+                    return idle;
+                }
+            }
+            return idleBrowsers.pollFirst();
+        }
+    }
+
+    private static void closeQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            logger.warn("Error releasing browser resources: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A browser parked between tests together with the Playwright instance that owns it
+     */
+    private static final class WarmBrowser {
+        private final Playwright playwright;
+        private final Browser browser;
+        private final BrowserType browserType;
+
+        private WarmBrowser(Playwright playwright, Browser browser, BrowserType browserType) {
+            this.playwright = playwright;
+            this.browser = browser;
+            this.browserType = browserType;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.starlettech.core.managers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.starlettech.config.BrowserConfig;
+import com.starlettech.enums.BrowserType;
+
+/**
+ * Runs several actors (users or tabs) of one scenario in parallel, e.g. admin plus customer or chat participants.
+ * Playwright objects must only be used from the thread that created them, so every actor gets its own
+ * thread with its own Playwright, browser, context and page, set up concurrently. Actions submitted for
+ * an actor run on its thread, where PlaywrightManager.getPage(), page objects and ElementUtils work as in a test.
+ * Results of parallel actions are returned per actor, and every action is recorded on a shared timeline.
+ */
+public class MultiPageSession implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(MultiPageSession.class);
+    private final Map<String, ExecutorService> actors = new LinkedHashMap<>();
+    private final List<ActionRecord> timeline = Collections.synchronizedList(new ArrayList<>());
+    private final long startNanos = System.nanoTime();
+
+    private MultiPageSession(BrowserType browserType, List<String> actorNames) {
+        for (String actor : actorNames) {
+            if (actors.containsKey(actor)) {
+                throw new IllegalArgumentException("Duplicate actor: " + actor);
+            }
+            actors.put(actor, Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "Actor-" + actor);
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+        try {
+            runAll(actor -> {
+                PlaywrightManager.launchBrowser(browserType);
+                PlaywrightManager.createContext();
+                PlaywrightManager.createPage();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        logger.info("Multi-page session opened with actors {} on {}", actorNames, browserType.getBrowserName());
+    }
+
+    /**
+     * Open a session with one browser page per actor, using the configured browser
+     */
+    public static MultiPageSession open(String... actorNames) {
+        return open(BrowserConfig.getInstance().getBrowserType(), actorNames);
+    }
+
+    /**
+     * Open a session with one page of the given browser per actor
+     */
+    public static MultiPageSession open(BrowserType browserType, String... actorNames) {
+        if (actorNames.length == 0) {
+            throw new IllegalArgumentException("At least one actor is required");
+        }
+        return new MultiPageSession(browserType, List.of(actorNames));
+    }
+
+    /**
+     * Run an action on an actor's thread without waiting for it
+     */
+    public <T> CompletableFuture<T> submit(String actor, Callable<T> action) {
+        ExecutorService executor = actors.get(actor);
+        if (executor == null) {
+            throw new IllegalArgumentException("Unknown actor: " + actor + ", expected one of " + actors.keySet());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                T result = action.call();
+                success = true;
+                return result;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                timeline.add(new ActionRecord(actor, (start - startNanos) / 1_000_000,
+                    (System.nanoTime() - start) / 1_000_000, success));
+            }
+        }, executor);
+    }
+
+    /**
+     * Run an action on an actor's thread and wait for its result
+     */
+    public <T> T call(String actor, Callable<T> action) {
+        return await(submit(actor, action));
+    }
+
+    /**
+     * Run an action on an actor's thread and wait for it
+     */
+    public void run(String actor, Runnable action) {
+        call(actor, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run the same action for every actor in parallel and wait for all; the action receives the actor name.
+     * If any actor fails, the first failure is thrown after all actors finished, with the others suppressed.
+     */
+    public <T> Map<String, T> runAll(Function<String, T> action) {
+        Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (String actor : actors.keySet()) {
+            futures.put(actor, submit(actor, () -> action.apply(actor)));
+        }
+        Map<String, T> results = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        for (Map.Entry<String, CompletableFuture<T>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), await(entry.getValue()));
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * Wait for a submitted action, rethrowing its failure
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for actor action", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Actor action failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Actions of all actors in start order
+     */
+    public List<ActionRecord> getTimeline() {
+        List<ActionRecord> records;
+        synchronized (timeline) {
+            records = new ArrayList<>(timeline);
+        }
+        records.sort((a, b) -> Long.compare(a.getStartMs(), b.getStartMs()));
+        return records;
+    }
+
+    public List<String> getActors() {
+        return new ArrayList<>(actors.keySet());
+    }
+
+    /**
+     * Close every actor's page, context, browser and Playwright on its own thread
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<Void>> closing = new ArrayList<>();
+        for (ExecutorService executor : actors.values()) {
+            closing.add(CompletableFuture.runAsync(() -> {
+                try {
+                    PlaywrightManager.cleanup();
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to close actor resources: {}", e.getMessage());
+                    PlaywrightManager.detach();
+                }
+            }, executor));
+        }
+        closing.forEach(future -> future.exceptionally(e -> null).join());
+        for (ExecutorService executor : actors.values()) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.info("Multi-page session closed ({} actions)", timeline.size());
+    }
+
+    /**
+     * One action run by an actor, with times relative to session start
+     */
+    public static class ActionRecord {
+        private final String actor;
+        private final long startMs;
+        private final long durationMs;
+        private final boolean success;
+
+        public ActionRecord(String actor, long startMs, long durationMs, boolean success) {
+            this.actor = actor;
+            this.startMs = startMs;
+            this.durationMs = durationMs;
+            this.success = success;
+        }
+
+        // Getters
+        public String getActor() { return actor; }
+        public long getStartMs() { return startMs; }
+        public long getDurationMs() { return durationMs; }
+        public boolean isSuccess() { return success; }
+    }
+}
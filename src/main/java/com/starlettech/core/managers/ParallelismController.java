@@ -0,0 +1,265 @@
+package com.starlettech.core.managers;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.starlettech.config.TestConfig;
+import com.sun.management.OperatingSystemMXBean;
+
+/**
+ * Limits how many UI tests run at once and adapts the limit to host load (parallelism.adaptive).
+ * A sampler checks system CPU load, available memory and live browser processes; the limit
+ * shrinks by one when the host is overloaded and grows by one when there is headroom and demand,
+ * always within parallelism.min and parallelism.max. Growth is also held back while there are more
+ * browser processes per running test than parallelism.browsers.per.worker.max, since browsers that
+ * are still closing or were leaked use memory the next sample has not seen yet. TestNG's thread count should be set to the
+ * maximum; surplus workers wait in {@link #acquire()}.
+ */
+public class ParallelismController {
+    private static final Logger logger = LogManager.getLogger(ParallelismController.class);
+    private static final String[] BROWSER_PROCESS_NAMES = {"chrome", "chromium", "msedge", "firefox", "webkit"};
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final Condition permitAvailable = lock.newCondition();
+    private static final ThreadLocal<Boolean> holdsPermit = new ThreadLocal<>();
+    private static volatile ScheduledExecutorService sampler;
+    private static int limit;
+    private static int running;
+    private static int waiting;
+    private static volatile Sample lastSample;
+
+    /**
+     * Start sampling if parallelism.adaptive is true
+     */
+    public static synchronized void startIfEnabled() {
+        TestConfig config = TestConfig.getInstance();
+        if (!config.isAdaptiveParallelism() || sampler != null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            limit = config.getParallelismMax();
+        } finally {
+            lock.unlock();
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ParallelismController");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = config.getParallelismSampleIntervalMs();
+        sampler.scheduleAtFixedRate(() -> {
+            try {
+                adjust();
+            } catch (Exception e) {
+                logger.error("Error during parallelism sampling: {}", e.getMessage(), e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        logger.info("Adaptive parallelism started: limit {} (min {}, max {})",
+            limit, config.getParallelismMin(), config.getParallelismMax());
+    }
+
+    /**
+     * Stop sampling and release any waiting threads
+     */
+    public static synchronized void stop() {
+        if (sampler == null) {
+            return;
+        }
+        sampler.shutdownNow();
+        sampler = null;
+        lock.lock();
+        try {
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        logger.info("Adaptive parallelism stopped");
+    }
+
+    /**
+     * Wait until the current limit allows another test to run; no-op when adaptive parallelism is off
+     */
+    public static void acquire() {
+        if (sampler == null || Boolean.TRUE.equals(holdsPermit.get())) {
+            return;
+        }
+        lock.lock();
+        try {
+            waiting++;
+            while (running >= limit && sampler != null) {
+                permitAvailable.await();
+            }
+            running++;
+            holdsPermit.set(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for a parallelism permit");
+        } finally {
+            waiting--;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the current thread's permit, if it holds one
+     */
+    public static void release() {
+        if (!Boolean.TRUE.equals(holdsPermit.get())) {
+            return;
+        }
+        holdsPermit.remove();
+        lock.lock();
+        try {
+            running--;
+            permitAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void adjust() {
+        TestConfig config = TestConfig.getInstance();
+        Sample sample = sample();
+        lastSample = sample;
+        long availableAfterLaunchMb = sample.availableMemoryMb - config.getParallelismBrowserMemoryMb();
+
+        lock.lock();
+        try {
+            int previous = limit;
+            boolean overloaded = sample.cpuLoad > config.getParallelismCpuHigh()
+                || sample.availableMemoryMb < config.getParallelismMinFreeMemoryMb();
+            double browsersPerWorker = (double) sample.browserProcesses / Math.max(1, running);
+            boolean headroom = sample.cpuLoad >= 0 && sample.cpuLoad < config.getParallelismCpuLow()
+                && availableAfterLaunchMb > config.getParallelismMinFreeMemoryMb()
+                && browsersPerWorker <= config.getParallelismMaxBrowsersPerWorker();
+
+            if (overloaded && limit > config.getParallelismMin()) {
+                limit--;
+            } else if (headroom && waiting > 0 && limit < config.getParallelismMax()) {
+                limit++;
+                permitAvailable.signal();
+            }
+            if (limit != previous) {
+                logger.info("Parallelism limit {} -> {} ({})", previous, limit, sample);
+            } else {
+                logger.debug("Parallelism limit {} ({}; running {}, waiting {})", limit, sample, running, waiting);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Sample sample() {
+        double cpuLoad = -1;
+        long freeMemoryMb = Long.MAX_VALUE;
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof OperatingSystemMXBean os) {
+            cpuLoad = os.getCpuLoad();
+            freeMemoryMb = os.getFreeMemorySize() / 1024 / 1024;
+        }
+        long availableMb = availableMemoryMb();
+        return new Sample(cpuLoad, availableMb >= 0 ? availableMb : freeMemoryMb, countBrowserProcesses());
+    }
+
+    /**
+     * MemAvailable from /proc/meminfo, or -1 when unavailable.
+     * Free memory excludes the page cache the kernel reclaims on demand, so on Linux it understates
+     * what a new browser can actually use.
+     */
+    private static long availableMemoryMb() {
+        if (!Files.isReadable(MEMINFO)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(MEMINFO)) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Failed to read {}: {}", MEMINFO, e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * Top-level browser processes started by this JVM (through the Playwright driver)
+     */
+    private static int countBrowserProcesses() {
+        return (int) ProcessHandle.current().descendants()
+            .filter(process -> isBrowser(process) && process.parent().map(parent -> !isBrowser(parent)).orElse(true))
+            .count();
+    }
+
+    private static boolean isBrowser(ProcessHandle process) {
+        Optional<String> command = process.info().command();
+        if (command.isEmpty()) {
+            return false;
+        }
+        String name = command.get().toLowerCase(Locale.ROOT);
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        for (String browser : BROWSER_PROCESS_NAMES) {
+            if (name.contains(browser)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static Sample getLastSample() {
+        return lastSample;
+    }
+
+    public static boolean isEnabled() {
+        return sampler != null;
+    }
+
+    /**
+     * One host load sample
+     */
+    public static class Sample {
+        private final double cpuLoad;
+        private final long availableMemoryMb;
+        private final int browserProcesses;
+
+        public Sample(double cpuLoad, long availableMemoryMb, int browserProcesses) {
+            this.cpuLoad = cpuLoad;
+            this.availableMemoryMb = availableMemoryMb;
+            this.browserProcesses = browserProcesses;
+        }
+
+        // Getters
+        public double getCpuLoad() { return cpuLoad; }
+        public long getAvailableMemoryMb() { return availableMemoryMb; }
+        public int getBrowserProcesses() { return browserProcesses; }
+
+        @Override
+        public String toString() {
+            return String.format("CPU %.0f%%, available memory %d MB, browsers %d",
+                cpuLoad * 100, availableMemoryMb, browserProcesses);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.starlettech.core.managers;
 
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -12,6 +13,12 @@ import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
 import com.microsoft.playwright.Tracing;
 import com.starlettech.config.BrowserConfig;
+import com.starlettech.core.metrics.events.BrowserLaunchEvent;
+import com.starlettech.core.metrics.events.ContextCreateEvent;
+import com.starlettech.core.network.HarManager;
+import com.starlettech.core.network.RequestBlocker;
+import com.starlettech.core.network.StaticAssetCache;
+import com.starlettech.enums.BlockCategory;
 import com.starlettech.enums.BrowserType;
 
 /**
@@ -23,6 +30,7 @@ public class PlaywrightManager {
     private static final ThreadLocal<Browser> browserThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> contextThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<Page> pageThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserType> browserTypeThreadLocal = new ThreadLocal<>();
 
     private static BrowserConfig browserConfig = BrowserConfig.getInstance();
 
@@ -51,8 +59,13 @@ public class PlaywrightManager {
         initializePlaywright();
 
         Playwright playwright = playwrightThreadLocal.get();
-        Browser browser = createBrowser(playwright, browserType);
-        browserThreadLocal.set(browser);
+        BrowserLaunchEvent event = BrowserLaunchEvent.start(browserType.getBrowserName(), browserConfig.isHeadless());
+        try {
+            browserThreadLocal.set(createBrowser(playwright, browserType));
+        } finally {
+            event.close();
+        }
+        browserTypeThreadLocal.set(browserType);
 
         logger.info("Browser {} launched successfully", browserType.getBrowserName());
     }
@@ -82,39 +95,63 @@ public class PlaywrightManager {
      * Create new browser context
      */
     public static void createContext() {
+        createContext(browserConfig.getBlockCategories(), null);
+    }
+
+    /**
+     * Create new browser context that aborts requests of the given categories and
+     * records or replays the named HAR when browser.har.mode is enabled (null for none)
+     */
+    public static void createContext(Set<BlockCategory> blockedCategories, String harName) {
         Browser browser = browserThreadLocal.get();
         if (browser == null) {
             throw new RuntimeException("Browser is not launched. Call launchBrowser() first.");
         }
 
-        Browser.NewContextOptions contextOptions = new Browser.NewContextOptions();
+        ContextCreateEvent event = ContextCreateEvent.start(browser.browserType().name());
+        try {
+            Browser.NewContextOptions contextOptions = new Browser.NewContextOptions();
 
-        // Set viewport
-        String viewport = browserConfig.getViewportSize();
-        String[] dimensions = viewport.split("x");
-        if (dimensions.length == 2) {
-            contextOptions.setViewportSize(
-                Integer.parseInt(dimensions[0]),
-                Integer.parseInt(dimensions[1])
-            );
-        }
+            // Set viewport
+            String viewport = browserConfig.getViewportSize();
+            String[] dimensions = viewport.split("x");
+            if (dimensions.length == 2) {
+                contextOptions.setViewportSize(
+                    Integer.parseInt(dimensions[0]),
+                    Integer.parseInt(dimensions[1])
+                );
+            }
 
-        // Set video recording if enabled
-        if (browserConfig.isVideoRecording()) {
-            contextOptions.setRecordVideoDir(Paths.get(browserConfig.getVideoPath()));
-        }
+            // Set video recording if enabled
+            if (browserConfig.isVideoRecording()) {
+                contextOptions.setRecordVideoDir(Paths.get(browserConfig.getVideoPath()));
+            }
 
-        BrowserContext context = browser.newContext(contextOptions);
+            BrowserContext context = browser.newContext(contextOptions);
+            try {
+                // A replayed HAR already serves assets locally, so the asset cache is only used without one
+                if (!HarManager.install(context, harName)) {
+                    StaticAssetCache.install(context);
+                }
+                // Registered last so blocking runs before the HAR and asset cache routes
+                RequestBlocker.install(context, blockedCategories);
+            } catch (RuntimeException e) {
+                context.close();
+                throw e;
+            }
 
-        // Set tracing if enabled
-        if (browserConfig.isTracing()) {
-            context.tracing().start(new Tracing.StartOptions()
-                .setScreenshots(true)
-                .setSnapshots(true)
-                .setSources(true));
-        }
+            // Set tracing if enabled
+            if (browserConfig.isTracing()) {
+                context.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(true)
+                    .setSnapshots(true)
+                    .setSources(true));
+            }
 
-        contextThreadLocal.set(context);
+            contextThreadLocal.set(context);
+        } finally {
+            event.close();
+        }
         logger.info("Browser context created successfully");
     }
 
@@ -148,6 +185,13 @@ public class PlaywrightManager {
         return browserThreadLocal.get();
     }
 
+    /**
+     * Get the type of the current browser
+     */
+    public static BrowserType getBrowserType() {
+        return browserTypeThreadLocal.get();
+    }
+
     /**
      * Get current browser context
      */
@@ -199,6 +243,7 @@ public class PlaywrightManager {
         if (browser != null) {
             browser.close();
             browserThreadLocal.remove();
+            browserTypeThreadLocal.remove();
             logger.info("Browser closed successfully");
         }
     }
@@ -215,6 +260,26 @@ public class PlaywrightManager {
         }
     }
 
+    /**
+     * Make a browser launched on another thread current for this thread, e.g. one handed over by BrowserPool
+     */
+    static void attach(Playwright playwright, Browser browser, BrowserType browserType) {
+        playwrightThreadLocal.set(playwright);
+        browserThreadLocal.set(browser);
+        browserTypeThreadLocal.set(browserType);
+    }
+
+    /**
+     * Forget this thread's resources without closing them, e.g. after they were closed elsewhere
+     */
+    public static void detach() {
+        pageThreadLocal.remove();
+        contextThreadLocal.remove();
+        browserThreadLocal.remove();
+        browserTypeThreadLocal.remove();
+        playwrightThreadLocal.remove();
+    }
+
     /**
      * Cleanup all resources
      */
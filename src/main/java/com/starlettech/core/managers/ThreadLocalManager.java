@@ -228,6 +228,53 @@ public class ThreadLocalManager {
         logger.info("Thread cleanup completed for: {} ({})", threadId, threadName);
     }
 
+    /**
+     * Close test-scoped resources and clear this thread's references.
+     * Playwright and browser instances are left open for BrowserPool to reuse.
+     */
+    public static void cleanupCurrentTest() {
+        long threadId = Thread.currentThread().threadId();
+
+        try {
+            Page page = getPage();
+            if (page != null && !page.isClosed()) {
+                page.close();
+            }
+        } catch (Exception e) {
+            logger.warn("Error closing page for thread {}: {}", threadId, e.getMessage());
+        }
+
+        try {
+            BrowserContext context = getContext();
+            if (context != null) {
+                context.close();
+            }
+        } catch (Exception e) {
+            logger.warn("Error closing context for thread {}: {}", threadId, e.getMessage());
+        }
+
+        try {
+            APIRequestContext apiContext = getApiContext();
+            if (apiContext != null) {
+                apiContext.dispose();
+            }
+        } catch (Exception e) {
+            logger.warn("Error disposing API context for thread {}: {}", threadId, e.getMessage());
+        }
+
+        playwrightThreadLocal.remove();
+        browserThreadLocal.remove();
+        contextThreadLocal.remove();
+        pageThreadLocal.remove();
+        apiContextThreadLocal.remove();
+        testDataThreadLocal.remove();
+        currentTestNameThreadLocal.remove();
+        testStartTimeThreadLocal.remove();
+        activeThreads.remove(threadId);
+
+        logger.debug("Test cleanup completed for thread: {}", threadId);
+    }
+
     public static void cleanupAllThreads() {
         logger.info("Starting cleanup for all active threads. Active threads: {}", activeThreads.size());
 
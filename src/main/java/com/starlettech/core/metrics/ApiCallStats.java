@@ -0,0 +1,42 @@
+package com.starlettech.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free request totals for one API endpoint (method plus path template)
+ */
+public class ApiCallStats {
+    private final String endpoint;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public ApiCallStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Record one call; status 0 means no response was received
+     */
+    public void record(int status, long nanos) {
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        if (status == 0 || status >= 400) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public long getAverageMs() {
+        long calls = count.get();
+        return calls > 0 ? totalNanos.get() / calls / 1_000_000 : 0;
+    }
+
+    // Getters
+    public String getEndpoint() { return endpoint; }
+    public long getCount() { return count.get(); }
+    public long getErrors() { return errors.get(); }
+    public long getTotalMs() { return totalNanos.get() / 1_000_000; }
+    public long getMaxMs() { return maxNanos.get() / 1_000_000; }
+}
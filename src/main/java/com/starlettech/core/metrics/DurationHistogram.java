@@ -0,0 +1,80 @@
+package com.starlettech.core.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-bucket duration histogram (cumulative bucket semantics on read, Prometheus style)
+ */
+public class DurationHistogram {
+
+    /**
+     * Default bucket upper bounds in milliseconds, tuned for UI/API test durations
+     */
+    public static final long[] DEFAULT_BOUNDS_MS = {
+        50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000, 120_000, 300_000
+    };
+
+    private final long[] boundsMs;
+    private final AtomicLongArray counts;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMs = new AtomicLong();
+
+    public DurationHistogram() {
+        this(DEFAULT_BOUNDS_MS);
+    }
+
+    public DurationHistogram(long[] boundsMs) {
+        this.boundsMs = boundsMs.clone();
+        Arrays.sort(this.boundsMs);
+        // Last slot is the +Inf bucket
+        this.counts = new AtomicLongArray(this.boundsMs.length + 1);
+    }
+
+    /**
+     * Record a duration in milliseconds
+     */
+    public void record(long durationMs) {
+        int index = Arrays.binarySearch(boundsMs, durationMs);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        counts.incrementAndGet(index);
+        count.incrementAndGet();
+        sumMs.addAndGet(durationMs);
+    }
+
+    public long[] getBoundsMs() {
+        return boundsMs.clone();
+    }
+
+    /**
+     * Cumulative counts per bucket; the last element is the +Inf bucket
+     */
+    public long[] getCumulativeCounts() {
+        long[] cumulative = new long[counts.length()];
+        long running = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            running += counts.get(i);
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getSumMs() {
+        return sumMs.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sumMs.set(0);
+    }
+}
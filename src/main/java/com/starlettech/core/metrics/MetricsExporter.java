@@ -0,0 +1,218 @@
+package com.starlettech.core.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.TestMetricsCollector;
+import com.starlettech.core.TestMetricsCollector.TestExecutionSummary;
+import com.starlettech.core.managers.ParallelismController;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP exporter serving live TestMetricsCollector data in OpenMetrics text format
+ */
+public class MetricsExporter {
+    private static final Logger logger = LogManager.getLogger(MetricsExporter.class);
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final String PREFIX = "playwright_";
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    /**
+     * Start the exporter if metrics.exporter.enabled is true
+     */
+    public static synchronized void startIfEnabled() {
+        TestConfig config = TestConfig.getInstance();
+        if (config.isMetricsExporterEnabled()) {
+            start(config.getMetricsExporterHost(), config.getMetricsExporterPort());
+        }
+    }
+
+    /**
+     * Start the exporter on the given address
+     */
+    public static synchronized void start(String host, int port) {
+        if (server != null) {
+            logger.debug("MetricsExporter already running on port {}", server.getAddress().getPort());
+            return;
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, port), 0);
+            server.createContext("/metrics", MetricsExporter::handleMetrics);
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "MetricsExporter");
+                t.setDaemon(true);
+                return t;
+            });
+            server.setExecutor(executor);
+            server.start();
+            logger.info("Metrics exporter started at http://{}:{}/metrics", host, server.getAddress().getPort());
+        } catch (IOException e) {
+            server = null;
+            shutdownExecutor();
+            logger.error("Failed to start metrics exporter on {}:{}: {}", host, port, e.getMessage());
+        }
+    }
+
+    /**
+     * Stop the exporter
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+            shutdownExecutor();
+            logger.info("Metrics exporter stopped");
+        }
+    }
+
+    private static void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Check if the exporter is running
+     */
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Port the exporter is bound to, or -1 when not running
+     */
+    public static synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    private static void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            // Render before sending headers so a failure can still be answered with 500
+            byte[] body;
+            try {
+                body = scrape().getBytes(StandardCharsets.UTF_8);
+            } catch (RuntimeException e) {
+                logger.error("Failed to render metrics: {}", e.getMessage(), e);
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Render current metrics in OpenMetrics text format
+     */
+    public static String scrape() {
+        TestExecutionSummary summary = TestMetricsCollector.getExecutionSummary();
+        StringBuilder sb = new StringBuilder(2048);
+
+        counter(sb, "tests_started", "Tests started", summary.getTotalTests());
+
+        header(sb, "tests_completed", "counter", "Tests completed by result");
+        sample(sb, "tests_completed_total", "result", "passed", summary.getPassedTests());
+        sample(sb, "tests_completed_total", "result", "failed", summary.getFailedTests());
+        sample(sb, "tests_completed_total", "result", "skipped", summary.getSkippedTests());
+
+        counter(sb, "test_retries", "Test retries", summary.getRetriedTests());
+        gauge(sb, "tests_running", "Tests started but not completed", TestMetricsCollector.getRunningTests());
+        gauge(sb, "session_uptime_seconds", "Seconds since the metrics session started",
+            (System.currentTimeMillis() - summary.getSessionStartTime()) / 1000.0);
+
+        if (ParallelismController.isEnabled()) {
+            gauge(sb, "parallelism_limit", "Current adaptive parallelism limit", ParallelismController.getLimit());
+            ParallelismController.Sample sample = ParallelismController.getLastSample();
+            if (sample != null) {
+                gauge(sb, "browser_processes", "Live browser processes started by this JVM", sample.getBrowserProcesses());
+            }
+        }
+
+        labelledCounter(sb, "browser_tests", "Tests started per browser", "browser", summary.getBrowserUsage());
+        labelledCounter(sb, "environment_tests", "Tests started per environment", "environment", summary.getEnvironmentUsage());
+        labelledCounter(sb, "test_errors", "Test failures per error type", "type", summary.getErrorTypes());
+
+        header(sb, "test_duration_seconds", "histogram", "Test execution duration");
+        histogramSamples(sb, "test_duration_seconds", null, TestMetricsCollector.getDurationHistogram());
+
+        header(sb, "test_phase_duration_seconds", "histogram", "Exclusive time per test lifecycle phase");
+        for (Map.Entry<TestPhase, DurationHistogram> entry : TestMetricsCollector.getPhaseHistograms().entrySet()) {
+            histogramSamples(sb, "test_phase_duration_seconds",
+                "phase=\"" + entry.getKey().name().toLowerCase() + "\"", entry.getValue());
+        }
+
+        sb.append("# EOF\n");
+        return sb.toString();
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, long value) {
+        header(sb, name, "counter", help);
+        sb.append(PREFIX).append(name).append("_total ").append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder sb, String name, String help, double value) {
+        header(sb, name, "gauge", help);
+        sb.append(PREFIX).append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void labelledCounter(StringBuilder sb, String name, String help, String label,
+                                        Map<String, AtomicInteger> values) {
+        header(sb, name, "counter", help);
+        for (Map.Entry<String, AtomicInteger> entry : new TreeMap<>(values).entrySet()) {
+            sample(sb, name + "_total", label, entry.getKey(), entry.getValue().get());
+        }
+    }
+
+    private static void histogramSamples(StringBuilder sb, String name, String labels, DurationHistogram histogram) {
+        String prefix = labels != null ? labels + "," : "";
+        String suffix = labels != null ? "{" + labels + "}" : "";
+        long[] bounds = histogram.getBoundsMs();
+        long[] cumulative = histogram.getCumulativeCounts();
+        for (int i = 0; i < bounds.length; i++) {
+            sb.append(PREFIX).append(name).append("_bucket{").append(prefix).append("le=\"")
+              .append(bounds[i] / 1000.0).append("\"} ").append(cumulative[i]).append('\n');
+        }
+        sb.append(PREFIX).append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ")
+          .append(cumulative[cumulative.length - 1]).append('\n');
+        sb.append(PREFIX).append(name).append("_count").append(suffix).append(' ').append(histogram.getCount()).append('\n');
+        sb.append(PREFIX).append(name).append("_sum").append(suffix).append(' ').append(histogram.getSumMs() / 1000.0).append('\n');
+    }
+
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+        sb.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, String label, String labelValue, long value) {
+        sb.append(PREFIX).append(name).append('{').append(label).append("=\"")
+          .append(escape(labelValue)).append("\"} ").append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
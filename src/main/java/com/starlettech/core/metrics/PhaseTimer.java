@@ -0,0 +1,102 @@
+package com.starlettech.core.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.starlettech.core.TestMetricsCollector;
+import com.starlettech.core.metrics.events.TestPhaseEvent;
+
+/**
+ * Nanosecond phase timer for test lifecycle steps.
+ * Nested timers record exclusive time: a screenshot taken inside a reporting callback
+ * is attributed to SCREENSHOT only, so per-phase totals add up to the measured wall time.
+ *
+ * <pre>
+ * PhaseTimer timer = PhaseTimer.start(TestPhase.BROWSER_LAUNCH);
+ * try {
+ *     BrowserPool.acquire(browserType);
+ * } finally {
+ *     timer.close();
+ * }
+ * </pre>
+ */
+public final class PhaseTimer implements AutoCloseable {
+    private static final ThreadLocal<String> currentTestKey = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<PhaseTimer>> activeTimers = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<PhaseTimer> bodyTimer = new ThreadLocal<>();
+
+    private final TestPhase phase;
+    private final String testKey;
+    private final long startNanos;
+    private final TestPhaseEvent event;
+    private long childNanos;
+    private boolean closed;
+
+    private PhaseTimer(TestPhase phase, String testKey) {
+        this.phase = phase;
+        this.testKey = testKey;
+        this.event = TestPhaseEvent.start(testKey, phase.name());
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Associate subsequent phases on this thread with a test
+     */
+    public static void beginTest(String className, String testName) {
+        currentTestKey.set(className + "." + testName);
+        activeTimers.get().clear();
+        bodyTimer.remove();
+    }
+
+    /**
+     * Start timing a phase for the current test
+     */
+    public static PhaseTimer start(TestPhase phase) {
+        PhaseTimer timer = new PhaseTimer(phase, currentTestKey.get());
+        activeTimers.get().push(timer);
+        return timer;
+    }
+
+    /**
+     * Start timing the test body; closed by {@link #endBody()}
+     */
+    public static void startBody() {
+        bodyTimer.set(start(TestPhase.TEST_BODY));
+    }
+
+    /**
+     * Stop timing the test body if it is running
+     */
+    public static void endBody() {
+        PhaseTimer timer = bodyTimer.get();
+        if (timer != null) {
+            bodyTimer.remove();
+            timer.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long elapsed = System.nanoTime() - startNanos;
+
+        Deque<PhaseTimer> timers = activeTimers.get();
+        if (timers.contains(this)) {
+            // Close any inner timers left open by an exception path
+            while (timers.peek() != this) {
+                timers.peek().close();
+            }
+            timers.pop();
+        }
+
+        PhaseTimer parent = timers.peek();
+        if (parent != null) {
+            parent.childNanos += elapsed;
+        }
+        event.commit();
+        TestMetricsCollector.recordPhase(testKey, phase, Math.max(0, elapsed - childNanos));
+    }
+}
@@ -0,0 +1,225 @@
+package com.starlettech.core.metrics;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.starlettech.utils.JsonUtils;
+import com.sun.management.OperatingSystemMXBean;
+
+/**
+ * Samples process CPU, heap, GC, thread count and the memory of child processes (Playwright driver
+ * and browsers) at a fixed rate on a shared background thread, so measuring stays off the request path
+ * and spikes between requests are not missed. Samples are kept in compact columnar arrays and exported
+ * as chart-ready JSON. Child process memory is read from /proc and is only available on Linux.
+ */
+public class SystemMetricsSampler {
+    private static final Logger logger = LogManager.getLogger(SystemMetricsSampler.class);
+    private static final OperatingSystemMXBean osBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "system-metrics-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final boolean PROC_AVAILABLE = Files.isDirectory(Paths.get("/proc/self"));
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final long intervalMs;
+    private final long startEpochMs = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private ScheduledFuture<?> task;
+    private long lastGcCount;
+    private long lastGcTimeMs;
+
+    // Columnar series, one entry per sample
+    private int size;
+    private long[] offsetsMs = new long[INITIAL_CAPACITY];
+    private float[] cpuPercent = new float[INITIAL_CAPACITY];
+    private long[] heapUsedBytes = new long[INITIAL_CAPACITY];
+    private int[] gcCollections = new int[INITIAL_CAPACITY];
+    private int[] gcPauseMs = new int[INITIAL_CAPACITY];
+    private int[] threads = new int[INITIAL_CAPACITY];
+    private long[] childRssBytes = new long[INITIAL_CAPACITY];
+
+    private SystemMetricsSampler(long intervalMs) {
+        this.intervalMs = intervalMs;
+        long[] gc = gcTotals();
+        lastGcCount = gc[0];
+        lastGcTimeMs = gc[1];
+    }
+
+    /**
+     * Take a first sample now and keep sampling every intervalMs until stopped
+     */
+    public static SystemMetricsSampler start(long intervalMs) {
+        SystemMetricsSampler sampler = new SystemMetricsSampler(Math.max(10, intervalMs));
+        sampler.sample();
+        sampler.task = scheduler.scheduleAtFixedRate(sampler::sampleQuietly, sampler.intervalMs, sampler.intervalMs,
+            TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    /**
+     * Stop sampling after a final sample; safe to call more than once
+     */
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+            sample();
+        }
+    }
+
+    private void sampleQuietly() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task
+            logger.debug("System metrics sample failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Record one sample
+     */
+    public synchronized void sample() {
+        if (size == offsetsMs.length) {
+            grow();
+        }
+        long[] gc = gcTotals();
+        double cpu = osBean.getProcessCpuLoad();
+        offsetsMs[size] = (System.nanoTime() - startNanos) / 1_000_000;
+        cpuPercent[size] = cpu > 0 ? (float) (cpu * 100) : 0f;
+        heapUsedBytes[size] = memoryBean.getHeapMemoryUsage().getUsed();
+        gcCollections[size] = (int) (gc[0] - lastGcCount);
+        gcPauseMs[size] = (int) (gc[1] - lastGcTimeMs);
+        threads[size] = threadBean.getThreadCount();
+        childRssBytes[size] = childProcessRss();
+        lastGcCount = gc[0];
+        lastGcTimeMs = gc[1];
+        size++;
+    }
+
+    private void grow() {
+        int capacity = offsetsMs.length * 2;
+        offsetsMs = Arrays.copyOf(offsetsMs, capacity);
+        cpuPercent = Arrays.copyOf(cpuPercent, capacity);
+        heapUsedBytes = Arrays.copyOf(heapUsedBytes, capacity);
+        gcCollections = Arrays.copyOf(gcCollections, capacity);
+        gcPauseMs = Arrays.copyOf(gcPauseMs, capacity);
+        threads = Arrays.copyOf(threads, capacity);
+        childRssBytes = Arrays.copyOf(childRssBytes, capacity);
+    }
+
+    /**
+     * Total collections and collection time in milliseconds over all collectors
+     */
+    private static long[] gcTotals() {
+        long count = 0;
+        long timeMs = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            count += Math.max(0, gcBean.getCollectionCount());
+            timeMs += Math.max(0, gcBean.getCollectionTime());
+        }
+        return new long[] {count, timeMs};
+    }
+
+    /**
+     * Resident memory of all descendant processes, e.g. the Playwright driver and browsers
+     */
+    private static long childProcessRss() {
+        if (!PROC_AVAILABLE) {
+            return 0;
+        }
+        return ProcessHandle.current().descendants().mapToLong(process -> rssOf(process.pid())).sum();
+    }
+
+    private static long rssOf(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited between listing and reading
+        }
+        return 0;
+    }
+
+    public synchronized double getMaxCpuPercent() {
+        double max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, cpuPercent[i]);
+        }
+        return max;
+    }
+
+    public synchronized long getMaxHeapUsedMb() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, heapUsedBytes[i]);
+        }
+        return max / (1024 * 1024);
+    }
+
+    public synchronized long getMaxChildRssMb() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, childRssBytes[i]);
+        }
+        return max / (1024 * 1024);
+    }
+
+    public synchronized int getSampleCount() {
+        return size;
+    }
+
+    /**
+     * Series as columnar JSON: one array per metric, aligned with timestampsMs (offsets from startTime)
+     */
+    public synchronized String toJson() {
+        long[] heapMb = new long[size];
+        long[] rssMb = new long[size];
+        float[] cpu = new float[size];
+        for (int i = 0; i < size; i++) {
+            heapMb[i] = heapUsedBytes[i] / (1024 * 1024);
+            rssMb[i] = childRssBytes[i] / (1024 * 1024);
+            cpu[i] = Math.round(cpuPercent[i] * 10) / 10f;
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("startTime", startEpochMs);
+        json.put("intervalMs", intervalMs);
+        json.put("timestampsMs", Arrays.copyOf(offsetsMs, size));
+        json.put("cpuPercent", cpu);
+        json.put("heapUsedMb", heapMb);
+        json.put("gcCollections", Arrays.copyOf(gcCollections, size));
+        json.put("gcPauseMs", Arrays.copyOf(gcPauseMs, size));
+        json.put("threads", Arrays.copyOf(threads, size));
+        json.put("browserRssMb", rssMb);
+        try {
+            return JsonUtils.getObjectMapper().writeValueAsString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize system metrics", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.starlettech.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.starlettech.core.TestMetricsCollector.TestResult;
+
+/**
+ * Recorded outcomes of one test across previous runs, oldest first
+ */
+public class TestHistory {
+    private final String testKey;
+    private final List<Run> runs = new ArrayList<>();
+
+    public TestHistory(String testKey) {
+        this.testKey = testKey;
+    }
+
+    void addRun(Run run) {
+        runs.add(run);
+    }
+
+    /**
+     * Duration percentile (0-100) over runs that executed, or -1 when there is no data
+     */
+    public long getPercentile(double percentile) {
+        long[] durations = runs.stream()
+            .filter(run -> run.getResult() != TestResult.SKIPPED)
+            .mapToLong(Run::getDurationMs)
+            .toArray();
+        return percentile(durations, percentile);
+    }
+
+    public long getP50() {
+        return getPercentile(50);
+    }
+
+    public long getP95() {
+        return getPercentile(95);
+    }
+
+    /**
+     * Median duration of the last {@code lastRuns} executed runs, or -1 when there is no data
+     */
+    public long getRecentP50(int lastRuns) {
+        long[] durations = runs.stream()
+            .filter(run -> run.getResult() != TestResult.SKIPPED)
+            .skip(Math.max(0, executedRuns() - lastRuns))
+            .mapToLong(Run::getDurationMs)
+            .toArray();
+        return percentile(durations, 50);
+    }
+
+    /**
+     * Fraction of runs that ended in failure
+     */
+    public double getFailureRate() {
+        if (runs.isEmpty()) {
+            return 0.0;
+        }
+        return (double) runs.stream().filter(run -> run.getResult() == TestResult.FAILED).count() / runs.size();
+    }
+
+    /**
+     * Fraction of runs that were flaky: passed only after a retry, or changed outcome from the previous run
+     */
+    public double getFlakinessRate() {
+        if (runs.isEmpty()) {
+            return 0.0;
+        }
+        int flaky = 0;
+        for (int i = 0; i < runs.size(); i++) {
+            if (isFlakyRun(i)) {
+                flaky++;
+            }
+        }
+        return (double) flaky / runs.size();
+    }
+
+    /**
+     * Whether the run at the given index passed only after a retry, or changed outcome from the previous executed run
+     */
+    public boolean isFlakyRun(int index) {
+        Run run = runs.get(index);
+        if (run.getResult() == TestResult.PASSED && run.getRetries() > 0) {
+            return true;
+        }
+        if (run.getResult() == TestResult.SKIPPED) {
+            return false;
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            TestResult previous = runs.get(i).getResult();
+            if (previous != TestResult.SKIPPED) {
+                return previous != run.getResult();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of failures among the last {@code lastRuns} runs
+     */
+    public int getRecentFailures(int lastRuns) {
+        return (int) runs.subList(Math.max(0, runs.size() - lastRuns), runs.size()).stream()
+            .filter(run -> run.getResult() == TestResult.FAILED)
+            .count();
+    }
+
+    public Run getLastRun() {
+        return runs.isEmpty() ? null : runs.get(runs.size() - 1);
+    }
+
+    private long executedRuns() {
+        return runs.stream().filter(run -> run.getResult() != TestResult.SKIPPED).count();
+    }
+
+    private static long percentile(long[] values, double percentile) {
+        if (values.length == 0) {
+            return -1;
+        }
+        Arrays.sort(values);
+        int rank = (int) Math.ceil(percentile / 100.0 * values.length);
+        return values[Math.min(values.length - 1, Math.max(0, rank - 1))];
+    }
+
+    // Getters
+    public String getTestKey() { return testKey; }
+    public List<Run> getRuns() { return Collections.unmodifiableList(runs); }
+    public int getRunCount() { return runs.size(); }
+
+    /**
+     * Final outcome of the test in one run
+     */
+    public static class Run {
+        private final long runStartTime;
+        private final String runId;
+        private final TestResult result;
+        private final long durationMs;
+        private final int retries;
+
+        public Run(long runStartTime, String runId, TestResult result, long durationMs, int retries) {
+            this.runStartTime = runStartTime;
+            this.runId = runId;
+            this.result = result;
+            this.durationMs = durationMs;
+            this.retries = retries;
+        }
+
+        // Getters
+        public long getRunStartTime() { return runStartTime; }
+        public String getRunId() { return runId; }
+        public TestResult getResult() { return result; }
+        public long getDurationMs() { return durationMs; }
+        public int getRetries() { return retries; }
+    }
+}
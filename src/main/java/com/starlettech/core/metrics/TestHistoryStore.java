@@ -0,0 +1,399 @@
+package com.starlettech.core.metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.TestMetricsCollector.TestResult;
+import com.starlettech.utils.JsonUtils;
+
+/**
+ * Append-only on-disk history of test durations, results and retries across runs.
+ * Each run writes its own binary segment file, so parallel JVMs (shards) never contend on a file;
+ * previous segments are loaded once at startup and the oldest are pruned beyond history.max.runs.
+ * Closing and recording again (several suites in one JVM) appends to the same segment and
+ * defines its keys again, so key ids always resolve within the file.
+ *
+ * <pre>
+ * segment  := MAGIC VERSION runStartTime runId record*
+ * record   := KEY id key | RESULT keyId result durationMs attempt
+ * result   := 0 passed | 1 failed | 2 skipped
+ * </pre>
+ */
+public class TestHistoryStore {
+    private static final Logger logger = LogManager.getLogger(TestHistoryStore.class);
+    private static final int MAGIC = 0x50575448; // "PWTH"
+    private static final short VERSION = 1;
+    private static final byte TAG_KEY = 1;
+    private static final byte TAG_RESULT = 2;
+    private static final String SEGMENT_PREFIX = "run-";
+    private static final String SEGMENT_SUFFIX = ".bin";
+    private static final String SNAPSHOT_FILE = "durations.json";
+    private static volatile TestHistoryStore instance;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxRuns;
+    private final Map<String, TestHistory> histories = new HashMap<>();
+    private final Map<String, Integer> keyIds = new HashMap<>();
+    private final Map<String, TestHistory.Run> currentRuns = new HashMap<>();
+    private int loadedRuns;
+    private DataOutputStream segment;
+    private Path segmentFile;
+    private long runStartTime;
+    private String runId;
+
+    private TestHistoryStore() {
+        this(TestConfig.getInstance().isHistoryEnabled(), Paths.get(TestConfig.getInstance().getHistoryPath()),
+            TestConfig.getInstance().getHistoryMaxRuns());
+    }
+
+    TestHistoryStore(boolean enabled, Path directory, int maxRuns) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxRuns = maxRuns;
+        if (enabled) {
+            load();
+        }
+    }
+
+    public static TestHistoryStore getInstance() {
+        if (instance == null) {
+            synchronized (TestHistoryStore.class) {
+                if (instance == null) {
+                    instance = new TestHistoryStore();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * History key for a test method
+     */
+    public static String keyOf(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    /**
+     * Append the outcome of a test attempt to the current run's segment
+     */
+    public synchronized void record(String testKey, TestResult result, long durationMs, int attempt) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            DataOutputStream out = openSegment();
+            Integer id = keyIds.get(testKey);
+            if (id == null) {
+                id = keyIds.size();
+                keyIds.put(testKey, id);
+                out.writeByte(TAG_KEY);
+                out.writeInt(id);
+                out.writeUTF(testKey);
+            }
+            out.writeByte(TAG_RESULT);
+            out.writeInt(id);
+            int duration = (int) Math.min(Integer.MAX_VALUE, Math.max(0, durationMs));
+            out.writeByte(codeOf(result));
+            out.writeInt(duration);
+            out.writeShort(attempt);
+            // Flush per record so a crashed JVM still leaves usable history
+            out.flush();
+            TestHistory.Run previous = currentRuns.get(testKey);
+            int retries = Math.max(attempt, previous != null ? previous.getRetries() : 0);
+            currentRuns.put(testKey, new TestHistory.Run(runStartTime, runId, result, duration, retries));
+        } catch (IOException e) {
+            logger.warn("Failed to write test history for {}: {}", testKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Flush and close the current run's segment
+     */
+    public synchronized void close() {
+        if (segment != null) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close test history segment: {}", e.getMessage());
+            }
+            segment = null;
+            // Key definitions are written per open; a reopened segment must define them again
+            keyIds.clear();
+        }
+    }
+
+    /**
+     * History of a test from previous runs, or null if it has never been recorded; this run's results
+     * are not included, so decisions based on history stay stable during the run
+     */
+    public synchronized TestHistory getHistory(String testKey) {
+        return histories.get(testKey);
+    }
+
+    public synchronized Map<String, TestHistory> getAllHistories() {
+        return Collections.unmodifiableMap(new HashMap<>(histories));
+    }
+
+    /**
+     * Median duration from history, or the given default when the test has no history
+     */
+    public long getEstimatedDuration(String testKey, long defaultMs) {
+        TestHistory history = getHistory(testKey);
+        long p50 = history != null ? history.getP50() : -1;
+        return p50 >= 0 ? p50 : defaultMs;
+    }
+
+    /**
+     * Tests whose median over the last {@code recentRuns} runs exceeds their overall median by {@code threshold} (e.g. 1.5)
+     */
+    public synchronized List<Regression> findRegressions(int recentRuns, double threshold) {
+        List<Regression> regressions = new ArrayList<>();
+        for (TestHistory history : histories.values()) {
+            if (history.getRunCount() <= recentRuns) {
+                continue;
+            }
+            long baseline = history.getP50();
+            long recent = history.getRecentP50(recentRuns);
+            if (baseline > 0 && recent > baseline * threshold) {
+                regressions.add(new Regression(history.getTestKey(), baseline, recent));
+            }
+        }
+        regressions.sort(Comparator.comparingDouble(Regression::getRatio).reversed());
+        return regressions;
+    }
+
+    /**
+     * Tests with a flakiness rate of at least {@code minRate}, most flaky first
+     */
+    public synchronized List<TestHistory> findFlakyTests(double minRate) {
+        return histories.values().stream()
+            .filter(history -> history.getFlakinessRate() >= minRate)
+            .sorted(Comparator.comparingDouble(TestHistory::getFlakinessRate).reversed())
+            .toList();
+    }
+
+    /**
+     * Write the median duration of every test over the loaded history and this run to
+     * history.path/durations.json, so a first run on a fresh agent already leaves a snapshot.
+     * Passing the same file to every shard with -Dshard.history gives all of them the same plan.
+     */
+    public synchronized void writeDurationSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        Map<String, TestHistory> combined = new HashMap<>();
+        histories.forEach((key, history) -> {
+            TestHistory copy = combined.computeIfAbsent(key, TestHistory::new);
+            history.getRuns().forEach(copy::addRun);
+        });
+        currentRuns.forEach((key, run) -> combined.computeIfAbsent(key, TestHistory::new).addRun(run));
+        Map<String, Long> durations = new TreeMap<>();
+        combined.forEach((key, history) -> {
+            long p50 = history.getP50();
+            if (p50 >= 0) {
+                durations.put(key, p50);
+            }
+        });
+        if (durations.isEmpty()) {
+            return;
+        }
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        try {
+            Files.createDirectories(directory);
+            JsonUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), durations);
+            logger.debug("Wrote duration snapshot of {} tests to {}", durations.size(), file);
+        } catch (IOException e) {
+            logger.warn("Failed to write duration snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Test durations from a snapshot written by {@link #writeDurationSnapshot()}
+     */
+    public static Map<String, Long> readDurationSnapshot(Path file) throws IOException {
+        return JsonUtils.getObjectMapper().readValue(file.toFile(), new TypeReference<Map<String, Long>>() {});
+    }
+
+    // Getters
+    public boolean isEnabled() { return enabled; }
+    public synchronized int getLoadedRuns() { return loadedRuns; }
+
+    private DataOutputStream openSegment() throws IOException {
+        if (segment == null && segmentFile != null) {
+            // Same run after close(): keep appending so the run stays one segment
+            segment = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(segmentFile, StandardOpenOption.APPEND)));
+        } else if (segment == null) {
+            Files.createDirectories(directory);
+            runStartTime = System.currentTimeMillis();
+            runId = UUID.randomUUID().toString().substring(0, 8);
+            segmentFile = directory.resolve(SEGMENT_PREFIX + runStartTime + "-" + runId + SEGMENT_SUFFIX);
+            segment = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segmentFile)));
+            segment.writeInt(MAGIC);
+            segment.writeShort(VERSION);
+            segment.writeLong(runStartTime);
+            segment.writeUTF(runId);
+        }
+        return segment;
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files
+                .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted(Comparator.comparingLong(TestHistoryStore::segmentStartTime))
+                .toList();
+        } catch (IOException e) {
+            logger.warn("Failed to list test history in {}: {}", directory, e.getMessage());
+            return;
+        }
+
+        // Keep the newest segments only; this run adds one more
+        int excess = segments.size() - Math.max(0, maxRuns - 1);
+        for (int i = 0; i < excess; i++) {
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                logger.debug("Failed to prune test history segment {}: {}", segments.get(i), e.getMessage());
+            }
+        }
+        for (Path file : segments.subList(Math.max(0, excess), segments.size())) {
+            readSegment(file);
+        }
+
+        logger.info("Loaded test history: {} runs, {} tests in {}ms", loadedRuns, histories.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void readSegment(Path file) {
+        Map<Integer, String> keys = new HashMap<>();
+        // Attempts of the same test in a run collapse into its final outcome
+        Map<String, TestHistory.Run> finalRuns = new LinkedHashMap<>();
+        Map<String, Integer> maxAttempts = new HashMap<>();
+
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw, 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                logger.warn("Skipping unrecognized test history segment: {}", file);
+                return;
+            }
+            long runStartTime = in.readLong();
+            String runId = in.readUTF();
+            try {
+                while (true) {
+                    byte tag = in.readByte();
+                    if (tag == TAG_KEY) {
+                        keys.put(in.readInt(), in.readUTF());
+                    } else if (tag == TAG_RESULT) {
+                        String key = keys.get(in.readInt());
+                        TestResult result = resultOf(in.readByte());
+                        int durationMs = in.readInt();
+                        int attempt = in.readShort();
+                        if (key == null || result == null) {
+                            logger.warn("Corrupt record in test history segment {}; ignoring the rest of it", file);
+                            break;
+                        }
+                        int retries = Math.max(attempt, maxAttempts.getOrDefault(key, 0));
+                        maxAttempts.put(key, retries);
+                        finalRuns.put(key, new TestHistory.Run(runStartTime, runId, result, durationMs, retries));
+                    } else {
+                        break;
+                    }
+                }
+            } catch (EOFException e) {
+                // End of segment, or a record truncated by a crashed run
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read test history segment {}: {}", file, e.getMessage());
+            return;
+        }
+
+        if (!finalRuns.isEmpty()) {
+            loadedRuns++;
+        }
+        for (Map.Entry<String, TestHistory.Run> entry : finalRuns.entrySet()) {
+            histories.computeIfAbsent(entry.getKey(), TestHistory::new).addRun(entry.getValue());
+        }
+    }
+
+    /**
+     * Stable on-disk code of a result, independent of the enum declaration order
+     */
+    private static int codeOf(TestResult result) {
+        return switch (result) {
+            case PASSED -> 0;
+            case FAILED -> 1;
+            case SKIPPED -> 2;
+        };
+    }
+
+    private static TestResult resultOf(int code) {
+        return switch (code) {
+            case 0 -> TestResult.PASSED;
+            case 1 -> TestResult.FAILED;
+            case 2 -> TestResult.SKIPPED;
+            default -> null;
+        };
+    }
+
+    private static long segmentStartTime(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.indexOf('-', SEGMENT_PREFIX.length())));
+        } catch (RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Test whose recent durations regressed against its historical median
+     */
+    public static class Regression {
+        private final String testKey;
+        private final long baselineP50;
+        private final long recentP50;
+
+        public Regression(String testKey, long baselineP50, long recentP50) {
+            this.testKey = testKey;
+            this.baselineP50 = baselineP50;
+            this.recentP50 = recentP50;
+        }
+
+        // Getters
+        public String getTestKey() { return testKey; }
+        public long getBaselineP50() { return baselineP50; }
+        public long getRecentP50() { return recentP50; }
+        public double getRatio() { return baselineP50 > 0 ? (double) recentP50 / baselineP50 : 0.0; }
+    }
+}
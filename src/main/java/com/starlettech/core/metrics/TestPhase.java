@@ -0,0 +1,24 @@
+package com.starlettech.core.metrics;
+
+/**
+ * Lifecycle phases timed for each test
+ */
+public enum TestPhase {
+    BROWSER_LAUNCH("Browser launch"),
+    CONTEXT_CREATE("Context creation"),
+    PAGE_CREATE("Page creation"),
+    TEST_BODY("Test body"),
+    SCREENSHOT("Screenshot capture"),
+    TEARDOWN("Teardown"),
+    REPORTING("Listener reporting");
+
+    private final String description;
+
+    TestPhase(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,42 @@
+package com.starlettech.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free wait time totals for one call site
+ */
+public class WaitStats {
+    private final String callSite;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public WaitStats(String callSite) {
+        this.callSite = callSite;
+    }
+
+    /**
+     * Record one wait
+     */
+    public void record(long nanos, boolean timedOut) {
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        if (timedOut) {
+            timeouts.incrementAndGet();
+        }
+    }
+
+    public long getAverageMs() {
+        long waits = count.get();
+        return waits > 0 ? totalNanos.get() / waits / 1_000_000 : 0;
+    }
+
+    // Getters
+    public String getCallSite() { return callSite; }
+    public long getCount() { return count.get(); }
+    public long getTimeouts() { return timeouts.get(); }
+    public long getTotalMs() { return totalNanos.get() / 1_000_000; }
+    public long getMaxMs() { return maxNanos.get() / 1_000_000; }
+}
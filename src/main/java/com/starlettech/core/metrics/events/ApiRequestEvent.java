@@ -0,0 +1,34 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for ApiClient requests
+ */
+@Name("com.starlettech.ApiRequest")
+@Label("API Request")
+@Description("HTTP request sent through ApiClient")
+public class ApiRequestEvent extends FrameworkEvent {
+    @Label("Method")
+    String method;
+
+    @Label("URL")
+    String url;
+
+    @Label("Status")
+    int status;
+
+    public static ApiRequestEvent start(String method, String url) {
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.method = method;
+        event.url = url;
+        event.begin();
+        return event;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,27 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for browser process launch
+ */
+@Name("com.starlettech.BrowserLaunch")
+@Label("Browser Launch")
+@Description("Launch of a Playwright browser process")
+public class BrowserLaunchEvent extends FrameworkEvent {
+    @Label("Browser")
+    String browser;
+
+    @Label("Headless")
+    boolean headless;
+
+    public static BrowserLaunchEvent start(String browser, boolean headless) {
+        BrowserLaunchEvent event = new BrowserLaunchEvent();
+        event.browser = browser;
+        event.headless = headless;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,23 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for browser context creation
+ */
+@Name("com.starlettech.ContextCreate")
+@Label("Browser Context Creation")
+@Description("Creation of a Playwright BrowserContext including its route and tracing setup")
+public class ContextCreateEvent extends FrameworkEvent {
+    @Label("Browser")
+    String browser;
+
+    public static ContextCreateEvent start(String browser) {
+        ContextCreateEvent event = new ContextCreateEvent();
+        event.browser = browser;
+        event.begin();
+        return event;
+    }
+}
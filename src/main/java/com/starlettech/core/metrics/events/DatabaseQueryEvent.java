@@ -0,0 +1,34 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for DatabaseUtils statements
+ */
+@Name("com.starlettech.DatabaseQuery")
+@Label("Database Query")
+@Description("SQL statement executed through DatabaseUtils")
+public class DatabaseQueryEvent extends FrameworkEvent {
+    @Label("Connection")
+    String connection;
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Rows")
+    int rows;
+
+    public static DatabaseQueryEvent start(String connection, String sql) {
+        DatabaseQueryEvent event = new DatabaseQueryEvent();
+        event.connection = connection;
+        event.sql = sql;
+        event.begin();
+        return event;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,27 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for element actions and state queries in ElementUtils
+ */
+@Name("com.starlettech.ElementAction")
+@Label("Element Action")
+@Description("Element interaction or state query, one browser round trip or more")
+public class ElementActionEvent extends FrameworkEvent {
+    @Label("Action")
+    String action;
+
+    @Label("Selector")
+    String selector;
+
+    public static ElementActionEvent start(String action, String selector) {
+        ElementActionEvent event = new ElementActionEvent();
+        event.action = action;
+        event.selector = selector;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,19 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+
+/**
+ * Base class for framework Java Flight Recorder events.
+ * Events are only written while a recording is active; otherwise begin/commit are no-ops
+ * the JIT eliminates, so instrumented hot paths stay free when nobody is recording.
+ * Subclasses are AutoCloseable; close() commits, so a block is timed by closing the event in finally.
+ */
+@Category({"Playwright Framework"})
+public abstract class FrameworkEvent extends Event implements AutoCloseable {
+
+    @Override
+    public void close() {
+        commit();
+    }
+}
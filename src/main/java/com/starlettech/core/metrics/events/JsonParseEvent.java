@@ -0,0 +1,23 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for JSON body parsing in assertions
+ */
+@Name("com.starlettech.JsonParse")
+@Label("JSON Parse")
+@Description("Parsing of an API response body into a JSON tree")
+public class JsonParseEvent extends FrameworkEvent {
+    @Label("Body Length")
+    long bodyLength;
+
+    public static JsonParseEvent start(long bodyLength) {
+        JsonParseEvent event = new JsonParseEvent();
+        event.bodyLength = bodyLength;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,23 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for page navigation
+ */
+@Name("com.starlettech.PageNavigation")
+@Label("Page Navigation")
+@Description("Page navigation until the load state is reached")
+public class PageNavigationEvent extends FrameworkEvent {
+    @Label("URL")
+    String url;
+
+    public static PageNavigationEvent start(String url) {
+        PageNavigationEvent event = new PageNavigationEvent();
+        event.url = url;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,27 @@
+package com.starlettech.core.metrics.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a timed test lifecycle phase, including listener reporting calls
+ */
+@Name("com.starlettech.TestPhase")
+@Label("Test Phase")
+@Description("Lifecycle phase of a test as measured by PhaseTimer (inclusive duration)")
+public class TestPhaseEvent extends FrameworkEvent {
+    @Label("Test")
+    String test;
+
+    @Label("Phase")
+    String phase;
+
+    public static TestPhaseEvent start(String test, String phase) {
+        TestPhaseEvent event = new TestPhaseEvent();
+        event.test = test;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,148 @@
+package com.starlettech.core.network;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+import com.microsoft.playwright.options.RouteFromHarUpdateContentPolicy;
+import com.starlettech.annotations.Har;
+import com.starlettech.config.BrowserConfig;
+import com.starlettech.enums.HarReplayMode;
+import com.starlettech.exceptions.BrowserException;
+import com.starlettech.utils.JsonUtils;
+
+/**
+ * Records browser network traffic to HAR files and replays it in later runs (browser.har.mode).
+ * RECORD writes one HAR per test, or per @Har name so tests of one page object share a recording.
+ * Each context records to its own part file, which is merged into the named HAR under a lock when the
+ * context closes; the first merge of a name in a run replaces the previous recording and later merges
+ * append their entries, so contexts sharing a name never overwrite each other. REPLAY serves matching requests from the HAR,
+ * AUTO replays when a recording exists and records otherwise. With browser.har.strict requests
+ * missing from the HAR are aborted, otherwise they go to the network.
+ */
+public class HarManager {
+    private static final Logger logger = LogManager.getLogger(HarManager.class);
+    private static final Set<Path> mergedThisRun = new HashSet<>();
+
+    /**
+     * HAR name from the method or class @Har annotation, or TestClass/testMethod
+     */
+    public static String resolveHarName(Method testMethod, Class<?> testClass) {
+        Har har = testMethod != null ? testMethod.getAnnotation(Har.class) : null;
+        if (har == null) {
+            har = testClass.getAnnotation(Har.class);
+        }
+        if (har != null) {
+            return har.value();
+        }
+        return testClass.getSimpleName() + (testMethod != null ? "/" + testMethod.getName() : "");
+    }
+
+    /**
+     * Record or replay the context's traffic for the given HAR name; returns whether HAR routing is active
+     */
+    public static boolean install(BrowserContext context, String harName) {
+        BrowserConfig config = BrowserConfig.getInstance();
+        HarReplayMode mode = config.getHarMode();
+        if (mode == HarReplayMode.OFF || harName == null) {
+            return false;
+        }
+
+        Path harPath = Paths.get(config.getHarPath(), harName + ".har");
+        boolean exists = Files.exists(harPath);
+        boolean record = mode == HarReplayMode.RECORD || (mode == HarReplayMode.AUTO && !exists);
+
+        BrowserContext.RouteFromHAROptions options = new BrowserContext.RouteFromHAROptions();
+        String urlFilter = config.getHarUrlFilter();
+        if (urlFilter != null && !urlFilter.isBlank()) {
+            options.setUrl(urlFilter);
+        }
+
+        if (record) {
+            Path partPath;
+            try {
+                Files.createDirectories(harPath.getParent());
+                partPath = Files.createTempFile(harPath.getParent(), harPath.getFileName().toString(), ".part");
+            } catch (IOException e) {
+                throw new BrowserException("Failed to create HAR directory: " + harPath.getParent(), e);
+            }
+            options.setUpdate(true)
+                .setUpdateContent(RouteFromHarUpdateContentPolicy.EMBED)
+                .setUpdateMode(HarMode.MINIMAL);
+            // The part file is saved before the close event fires, so it is complete when this listener runs
+            context.onClose(closed -> merge(partPath, harPath));
+            context.routeFromHAR(partPath, options);
+            logger.info("Recording HAR: {}", harPath);
+            return true;
+        }
+
+        if (!exists) {
+            if (config.isHarStrict()) {
+                throw BrowserException.harNotFound(harPath.toString());
+            }
+            logger.warn("HAR recording not found, using the network: {}", harPath);
+            return false;
+        }
+        options.setNotFound(config.isHarStrict() ? HarNotFound.ABORT : HarNotFound.FALLBACK);
+        logger.info("Replaying HAR: {} ({})", harPath, config.isHarStrict() ? "strict" : "network fallback");
+        context.routeFromHAR(harPath, options);
+        return true;
+    }
+
+    /**
+     * Merge one context's recording into the named HAR and delete the part file
+     */
+    static synchronized void merge(Path partPath, Path harPath) {
+        try {
+            if (!Files.exists(partPath) || Files.size(partPath) == 0) {
+                // Context closed with its browser, so Playwright never saved the recording
+                logger.warn("No HAR recorded for {}", harPath);
+                return;
+            }
+            ObjectNode part = (ObjectNode) JsonUtils.getObjectMapper().readTree(partPath.toFile());
+            ObjectNode merged = part;
+            if (!mergedThisRun.add(harPath) && Files.exists(harPath)) {
+                merged = (ObjectNode) JsonUtils.getObjectMapper().readTree(harPath.toFile());
+                append(merged, part, "pages");
+                append(merged, part, "entries");
+            }
+            Path temp = Files.createTempFile(harPath.getParent(), harPath.getFileName().toString(), ".tmp");
+            JsonUtils.getObjectMapper().writeValue(temp.toFile(), merged);
+            Files.move(temp, harPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Merged {} HAR entries into {}", part.path("log").path("entries").size(), harPath);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to merge HAR recording into {}: {}", harPath, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(partPath);
+            } catch (IOException e) {
+                logger.debug("Failed to delete HAR part file {}: {}", partPath, e.getMessage());
+            }
+        }
+    }
+
+    private static void append(ObjectNode target, ObjectNode source, String field) {
+        JsonNode additions = source.path("log").path(field);
+        if (!additions.isArray()) {
+            return;
+        }
+        ObjectNode log = target.get("log") instanceof ObjectNode ? (ObjectNode) target.get("log") : target.putObject("log");
+        JsonNode existing = log.get(field);
+        ArrayNode array = existing instanceof ArrayNode ? (ArrayNode) existing : log.putArray(field);
+        array.addAll((ArrayNode) additions);
+    }
+}
@@ -0,0 +1,114 @@
+package com.starlettech.core.network;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.starlettech.config.BrowserConfig;
+import com.starlettech.enums.BlockCategory;
+
+/**
+ * Aborts requests functional tests do not need: analytics, ads, images, fonts and media
+ * (browser.block or @Browser(block = ...)), plus any host in browser.block.hosts.
+ * Requests that are not blocked fall through to other routes such as the static asset cache.
+ * Blocked requests are counted per context; bytes saved are known only for URLs the asset cache has seen.
+ */
+public class RequestBlocker {
+    private static final Logger logger = LogManager.getLogger(RequestBlocker.class);
+    private static final ThreadLocal<BlockStats> currentStats = new ThreadLocal<>();
+
+    /**
+     * Route the context's requests through the given block categories; does nothing when none apply
+     */
+    public static void install(BrowserContext context, Set<BlockCategory> categories) {
+        Set<BlockCategory> active = categories.isEmpty() ? EnumSet.noneOf(BlockCategory.class) : EnumSet.copyOf(categories);
+        active.remove(BlockCategory.NONE);
+        List<String> hosts = BrowserConfig.getInstance().getBlockHosts();
+        if (active.isEmpty() && hosts.isEmpty()) {
+            currentStats.remove();
+            return;
+        }
+
+        BlockStats stats = new BlockStats();
+        currentStats.set(stats);
+        context.route("**/*", route -> handle(route, active, hosts, stats));
+        logger.debug("Blocking {} and hosts {}", active, hosts);
+    }
+
+    private static void handle(Route route, Set<BlockCategory> categories, List<String> hosts, BlockStats stats) {
+        Request request = route.request();
+        try {
+            if (isBlocked(request, categories, hosts)) {
+                stats.record(StaticAssetCache.getKnownSize(request.url()));
+                route.abort("blockedbyclient");
+            } else {
+                route.fallback();
+            }
+        } catch (PlaywrightException e) {
+            // Context closed while the request was in flight
+            logger.debug("Request blocker could not handle {}: {}", request.url(), e.getMessage());
+        }
+    }
+
+    private static boolean isBlocked(Request request, Set<BlockCategory> categories, List<String> hosts) {
+        String host;
+        try {
+            host = URI.create(request.url()).getHost();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (host == null) {
+            return false;
+        }
+        host = host.toLowerCase();
+        String resourceType = request.resourceType();
+        for (BlockCategory category : categories) {
+            if (category.matches(resourceType, host)) {
+                return true;
+            }
+        }
+        for (String blockedHost : hosts) {
+            if (host.equals(blockedHost) || host.endsWith("." + blockedHost)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Take the blocking statistics of this thread's current context, or null when blocking is not active
+     */
+    public static BlockStats takeStats() {
+        BlockStats stats = currentStats.get();
+        currentStats.remove();
+        return stats;
+    }
+
+    /**
+     * Requests blocked in one context
+     */
+    public static class BlockStats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong knownBytes = new AtomicLong();
+
+        void record(long bytes) {
+            requests.incrementAndGet();
+            if (bytes > 0) {
+                knownBytes.addAndGet(bytes);
+            }
+        }
+
+        // Getters
+        public long getRequests() { return requests.get(); }
+        public long getKnownBytes() { return knownBytes.get(); }
+    }
+}
@@ -0,0 +1,458 @@
+package com.starlettech.core.network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Route;
+import com.starlettech.config.BrowserConfig;
+
+/**
+ * Process-wide cache for static assets shared by all browser contexts (browser.asset.cache.enabled).
+ * GET requests matching browser.asset.cache.patterns are served from memory or disk instead of the network.
+ * Bodies are stored content-addressed by SHA-256 under browser.asset.cache.path, so identical assets on
+ * different URLs are stored once and the disk cache survives between runs. Freshness follows the response
+ * Cache-Control (no-cache, max-age); stale entries with an ETag or Last-Modified are revalidated.
+ * Because entries are shared between contexts, responses that set cookies, are private or no-store, or vary
+ * on anything but Accept-Encoding are never stored.
+ */
+public class StaticAssetCache {
+    private static final Logger logger = LogManager.getLogger(StaticAssetCache.class);
+    private static final String HEADER_PREFIX = "header.";
+    private static final Map<String, CachedAsset> index = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong revalidations = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong bytesServed = new AtomicLong();
+    private static volatile Pattern urlPattern;
+    private static MemoryStore memory;
+
+    /**
+     * Route matching static asset requests of a new context through the cache
+     */
+    public static void install(BrowserContext context) {
+        BrowserConfig config = BrowserConfig.getInstance();
+        if (!config.isAssetCacheEnabled()) {
+            return;
+        }
+        Pattern pattern = getUrlPattern(config);
+        if (pattern == null) {
+            // An empty pattern would match every URL and route all traffic through the cache
+            logger.warn("Asset cache is enabled but browser.asset.cache.patterns is empty");
+            return;
+        }
+        context.route(pattern, StaticAssetCache::handle);
+    }
+
+    private static void handle(Route route) {
+        if (!"GET".equals(route.request().method())) {
+            route.fallback();
+            return;
+        }
+        String url = route.request().url();
+        try {
+            CachedAsset cached = lookup(url);
+            if (cached != null && cached.isFresh()) {
+                byte[] body = readBody(cached.getHash());
+                if (body != null) {
+                    hits.incrementAndGet();
+                    serve(route, cached, body);
+                    return;
+                }
+            }
+            fetchAndServe(route, url, cached);
+        } catch (PlaywrightException e) {
+            logger.debug("Asset cache could not handle {}: {}", url, e.getMessage());
+            try {
+                route.fallback();
+            } catch (PlaywrightException ignored) {
+                // Context closed while the asset was loading
+            }
+        }
+    }
+
+    private static void fetchAndServe(Route route, String url, CachedAsset stale) {
+        Route.FetchOptions options = new Route.FetchOptions();
+        if (stale != null && stale.hasValidator()) {
+            Map<String, String> headers = new HashMap<>(route.request().headers());
+            if (stale.getEtag() != null) {
+                headers.put("if-none-match", stale.getEtag());
+            }
+            if (stale.getLastModified() != null) {
+                headers.put("if-modified-since", stale.getLastModified());
+            }
+            options.setHeaders(headers);
+        }
+
+        APIResponse response = route.fetch(options);
+        if (response.status() == 304 && stale != null) {
+            byte[] body = readBody(stale.getHash());
+            if (body != null) {
+                revalidations.incrementAndGet();
+                CachedAsset refreshed = stale.withExpiry(expiresAt(response.headers()));
+                index.put(url, refreshed);
+                writeIndex(url, refreshed);
+                serve(route, refreshed, body);
+                return;
+            }
+            // The 304 answers validators the cache added, so the browser cannot use it; fetch the asset again
+            logger.debug("Cached body of {} is missing, fetching it again", url);
+            dropEntry(url);
+            fetchAndServe(route, url, null);
+            return;
+        }
+
+        misses.incrementAndGet();
+        Map<String, String> headers = response.headers();
+        long expiresAt = expiresAt(headers);
+        if (response.status() != 200 || !isStorable(headers)) {
+            route.fulfill(new Route.FulfillOptions().setResponse(response));
+            return;
+        }
+        byte[] body = response.body();
+        CachedAsset asset = new CachedAsset(store(body), response.status(), storableHeaders(headers), expiresAt);
+        index.put(url, asset);
+        writeIndex(url, asset);
+        route.fulfill(new Route.FulfillOptions()
+            .setStatus(asset.getStatus())
+            .setHeaders(asset.getHeaders())
+            .setBodyBytes(body));
+    }
+
+    private static void serve(Route route, CachedAsset asset, byte[] body) {
+        bytesServed.addAndGet(body.length);
+        route.fulfill(new Route.FulfillOptions()
+            .setStatus(asset.getStatus())
+            .setHeaders(asset.getHeaders())
+            .setBodyBytes(body));
+    }
+
+    /**
+     * Whether a response may be shared between contexts, regardless of browser.asset.cache.ignore.cache.control.
+     * The fetched body is already decoded, so a Vary on Accept-Encoding alone does not split the entry.
+     */
+    static boolean isStorable(Map<String, String> headers) {
+        if (headers.containsKey("set-cookie")) {
+            return false;
+        }
+        List<String> directives = directives(headers.get("cache-control"));
+        if (directives.contains("private") || directives.contains("no-store")) {
+            return false;
+        }
+        String vary = headers.get("vary");
+        return vary == null || directives(vary).stream().allMatch("accept-encoding"::equals);
+    }
+
+    /**
+     * Expiry time from Cache-Control
+     */
+    private static long expiresAt(Map<String, String> headers) {
+        BrowserConfig config = BrowserConfig.getInstance();
+        long now = System.currentTimeMillis();
+        long defaultExpiry = now + config.getAssetCacheDefaultTtlSeconds() * 1000L;
+        String cacheControl = headers.get("cache-control");
+        if (config.isAssetCacheIgnoreCacheControl() || cacheControl == null) {
+            return defaultExpiry;
+        }
+        List<String> directives = directives(cacheControl);
+        if (directives.contains("no-cache")) {
+            return now;
+        }
+        for (String directive : directives) {
+            if (directive.startsWith("max-age=")) {
+                try {
+                    return now + Long.parseLong(directive.substring("max-age=".length())) * 1000L;
+                } catch (NumberFormatException e) {
+                    return now;
+                }
+            }
+        }
+        return defaultExpiry;
+    }
+
+    private static List<String> directives(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        return Arrays.stream(header.toLowerCase(Locale.ROOT).split("[,\\n]"))
+            .map(String::trim)
+            .filter(directive -> !directive.isEmpty())
+            .toList();
+    }
+
+    private static Map<String, String> storableHeaders(Map<String, String> headers) {
+        // The fetched body is already decoded, so encoding and length headers no longer apply
+        Map<String, String> result = new LinkedHashMap<>(headers);
+        result.remove("content-encoding");
+        result.remove("content-length");
+        result.remove("transfer-encoding");
+        result.remove("set-cookie");
+        return result;
+    }
+
+    private static CachedAsset lookup(String url) {
+        CachedAsset cached = index.get(url);
+        if (cached == null) {
+            cached = readIndex(url);
+            if (cached != null) {
+                index.putIfAbsent(url, cached);
+            }
+        }
+        return cached;
+    }
+
+    private static String store(byte[] body) {
+        String hash = sha256(body);
+        getMemory().put(hash, body);
+        Path file = objectPath(hash);
+        if (!Files.exists(file)) {
+            try {
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+                Files.write(temp, body);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.debug("Failed to write cached asset {}: {}", hash, e.getMessage());
+            }
+        }
+        return hash;
+    }
+
+    private static byte[] readBody(String hash) {
+        byte[] body = getMemory().get(hash);
+        if (body != null) {
+            return body;
+        }
+        try {
+            body = Files.readAllBytes(objectPath(hash));
+            getMemory().put(hash, body);
+            return body;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static CachedAsset readIndex(String url) {
+        Path file = indexPath(url);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(HEADER_PREFIX)) {
+                    headers.put(name.substring(HEADER_PREFIX.length()), properties.getProperty(name));
+                }
+            }
+            return new CachedAsset(properties.getProperty("hash"), Integer.parseInt(properties.getProperty("status")),
+                headers, Long.parseLong(properties.getProperty("expires")));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Ignoring unreadable asset cache entry for {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void dropEntry(String url) {
+        index.remove(url);
+        try {
+            Files.deleteIfExists(indexPath(url));
+        } catch (IOException e) {
+            logger.debug("Failed to delete asset cache entry for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private static void writeIndex(String url, CachedAsset asset) {
+        Properties properties = new Properties();
+        properties.setProperty("url", url);
+        properties.setProperty("hash", asset.getHash());
+        properties.setProperty("status", String.valueOf(asset.getStatus()));
+        properties.setProperty("expires", String.valueOf(asset.getExpiresAt()));
+        asset.getHeaders().forEach((name, value) -> properties.setProperty(HEADER_PREFIX + name, value));
+        Path file = indexPath(url);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "entry", ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                properties.store(output, null);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Failed to write asset cache entry for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private static Path objectPath(String hash) {
+        return Paths.get(BrowserConfig.getInstance().getAssetCachePath(), "objects", hash.substring(0, 2), hash);
+    }
+
+    private static Path indexPath(String url) {
+        return Paths.get(BrowserConfig.getInstance().getAssetCachePath(), "index",
+            sha256(url.getBytes(StandardCharsets.UTF_8)) + ".properties");
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Pattern getUrlPattern(BrowserConfig config) {
+        if (urlPattern == null) {
+            urlPattern = combinePatterns(config.getAssetCachePatterns());
+        }
+        return urlPattern;
+    }
+
+    /**
+     * One case-insensitive pattern matching any of the given URL regexes, or null when none is given
+     */
+    static Pattern combinePatterns(List<String> patterns) {
+        StringBuilder combined = new StringBuilder();
+        for (String pattern : patterns) {
+            if (!pattern.isBlank()) {
+                combined.append(combined.length() > 0 ? "|" : "").append("(?:").append(pattern.trim()).append(')');
+            }
+        }
+        return combined.length() > 0 ? Pattern.compile(combined.toString(), Pattern.CASE_INSENSITIVE) : null;
+    }
+
+    private static synchronized MemoryStore getMemory() {
+        if (memory == null) {
+            memory = new MemoryStore(BrowserConfig.getInstance().getAssetCacheMemoryMb() * 1024L * 1024L);
+        }
+        return memory;
+    }
+
+    /**
+     * Body size of a cached URL, or -1 when it has not been cached
+     */
+    public static long getKnownSize(String url) {
+        CachedAsset cached = lookup(url);
+        if (cached == null) {
+            return -1;
+        }
+        byte[] body = getMemory().get(cached.getHash());
+        if (body != null) {
+            return body.length;
+        }
+        try {
+            return Files.size(objectPath(cached.getHash()));
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Log cache effectiveness for the run
+     */
+    public static void logSummary() {
+        long served = hits.get() + revalidations.get();
+        if (served + misses.get() == 0) {
+            return;
+        }
+        logger.info("Static asset cache: {} hits, {} revalidated, {} misses, {} KB served from cache",
+            hits.get(), revalidations.get(), misses.get(), bytesServed.get() / 1024);
+    }
+
+    // Getters
+    public static long getHits() { return hits.get(); }
+    public static long getRevalidations() { return revalidations.get(); }
+    public static long getMisses() { return misses.get(); }
+    public static long getBytesServed() { return bytesServed.get(); }
+
+    /**
+     * Cached response for one URL; the body is stored by content hash
+     */
+    public static class CachedAsset {
+        private final String hash;
+        private final int status;
+        private final Map<String, String> headers;
+        private final long expiresAt;
+
+        public CachedAsset(String hash, int status, Map<String, String> headers, long expiresAt) {
+            this.hash = hash;
+            this.status = status;
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        public boolean hasValidator() {
+            return getEtag() != null || getLastModified() != null;
+        }
+
+        CachedAsset withExpiry(long newExpiresAt) {
+            return new CachedAsset(hash, status, headers, Math.max(newExpiresAt, System.currentTimeMillis()));
+        }
+
+        // Getters
+        public String getHash() { return hash; }
+        public int getStatus() { return status; }
+        public Map<String, String> getHeaders() { return headers; }
+        public long getExpiresAt() { return expiresAt; }
+        public String getEtag() { return headers.get("etag"); }
+        public String getLastModified() { return headers.get("last-modified"); }
+    }
+
+    /**
+     * Least-recently-used asset bodies bounded by total size
+     */
+    private static class MemoryStore {
+        private final long maxBytes;
+        private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long size;
+
+        MemoryStore(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized byte[] get(String hash) {
+            return entries.get(hash);
+        }
+
+        synchronized void put(String hash, byte[] body) {
+            if (body.length > maxBytes || entries.containsKey(hash)) {
+                return;
+            }
+            entries.put(hash, body);
+            size += body.length;
+            Iterator<Map.Entry<String, byte[]>> iterator = entries.entrySet().iterator();
+            while (size > maxBytes && iterator.hasNext()) {
+                size -= iterator.next().getValue().length;
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.starlettech.enums;
+
+import java.util.Set;
+
+/**
+ * Enum for request categories that can be blocked in browser contexts
+ */
+public enum BlockCategory {
+    NONE(Set.of(), Set.of()),
+    ANALYTICS(Set.of(), Set.of("google-analytics.com", "analytics.google.com", "googletagmanager.com",
+        "segment.io", "segment.com", "mixpanel.com", "hotjar.com", "fullstory.com", "amplitude.com",
+        "heapanalytics.com", "clarity.ms", "nr-data.net", "newrelic.com", "sentry.io")),
+    ADS(Set.of(), Set.of("doubleclick.net", "googlesyndication.com", "googleadservices.com", "adservice.google.com",
+        "amazon-adsystem.com", "adnxs.com", "criteo.com", "criteo.net", "taboola.com", "outbrain.com",
+        "connect.facebook.net")),
+    IMAGES(Set.of("image"), Set.of()),
+    FONTS(Set.of("font"), Set.of()),
+    MEDIA(Set.of("media"), Set.of());
+
+    private final Set<String> resourceTypes;
+    private final Set<String> domains;
+
+    BlockCategory(Set<String> resourceTypes, Set<String> domains) {
+        this.resourceTypes = resourceTypes;
+        this.domains = domains;
+    }
+
+    /**
+     * Check whether a request of the given Playwright resource type and host belongs to this category
+     */
+    public boolean matches(String resourceType, String host) {
+        if (resourceTypes.contains(resourceType)) {
+            return true;
+        }
+        for (String domain : domains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static BlockCategory fromString(String category) {
+        for (BlockCategory value : BlockCategory.values()) {
+            if (value.name().equalsIgnoreCase(category.trim().replace('-', '_'))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown block category: " + category);
+    }
+}
@@ -0,0 +1,20 @@
+package com.starlettech.enums;
+
+/**
+ * Enum for HAR record-and-replay of browser network traffic
+ */
+public enum HarReplayMode {
+    OFF,
+    RECORD,
+    REPLAY,
+    AUTO;
+
+    public static HarReplayMode fromString(String mode) {
+        for (HarReplayMode value : HarReplayMode.values()) {
+            if (value.name().equalsIgnoreCase(mode.trim().replace('-', '_'))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown HAR mode: " + mode);
+    }
+}
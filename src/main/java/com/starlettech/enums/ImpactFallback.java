@@ -0,0 +1,18 @@
+package com.starlettech.enums;
+
+/**
+ * Enum for impact selection without test history: run the whole suite or only tests affected by the change
+ */
+public enum ImpactFallback {
+    ALL,
+    IMPACTED;
+
+    public static ImpactFallback fromString(String fallback) {
+        for (ImpactFallback value : ImpactFallback.values()) {
+            if (value.name().equalsIgnoreCase(fallback.trim())) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown impact fallback: " + fallback);
+    }
+}
@@ -0,0 +1,34 @@
+package com.starlettech.enums;
+
+/**
+ * Enum for screenshot image formats
+ */
+public enum ScreenshotFormat {
+    PNG("png", "image/png"),
+    JPEG("jpg", "image/jpeg");
+
+    private final String extension;
+    private final String mimeType;
+
+    ScreenshotFormat(String extension, String mimeType) {
+        this.extension = extension;
+        this.mimeType = mimeType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public static ScreenshotFormat fromString(String format) {
+        for (ScreenshotFormat value : ScreenshotFormat.values()) {
+            if (value.name().equalsIgnoreCase(format.trim()) || value.extension.equalsIgnoreCase(format.trim())) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown screenshot format: " + format);
+    }
+}
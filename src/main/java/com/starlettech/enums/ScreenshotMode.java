@@ -0,0 +1,19 @@
+package com.starlettech.enums;
+
+/**
+ * Enum for screenshot capture areas
+ */
+public enum ScreenshotMode {
+    FULL_PAGE,
+    VIEWPORT,
+    ELEMENT;
+
+    public static ScreenshotMode fromString(String mode) {
+        for (ScreenshotMode value : ScreenshotMode.values()) {
+            if (value.name().equalsIgnoreCase(mode.trim().replace('-', '_'))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown screenshot mode: " + mode);
+    }
+}
@@ -0,0 +1,19 @@
+package com.starlettech.enums;
+
+/**
+ * Enum for test execution ordering strategies
+ */
+public enum TestOrder {
+    NONE,
+    LONGEST_FIRST,
+    FAIL_FAST;
+
+    public static TestOrder fromString(String order) {
+        for (TestOrder value : TestOrder.values()) {
+            if (value.name().equalsIgnoreCase(order.trim().replace('-', '_'))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown test order: " + order);
+    }
+}
@@ -0,0 +1,49 @@
+package com.starlettech.exceptions;
+
+/**
+ * Exception thrown for API client errors
+ */
+public class ApiException extends FrameworkException {
+    
+    private final String endpoint;
+    private final int statusCode;
+    
+    public ApiException(String message, String endpoint, int statusCode, String errorCode) {
+        super(message, ErrorType.API, errorCode);
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+    }
+    
+    public ApiException(String message, Throwable cause, String endpoint, String errorCode) {
+        super(message, cause, ErrorType.API, errorCode);
+        this.endpoint = endpoint;
+        this.statusCode = 0;
+    }
+    
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    // Specific API error methods
+    public static ApiException requestFailed(String method, String url, Throwable cause) {
+        return new ApiException("API request failed: " + method + " " + url + " - " + cause.getMessage(),
+            cause, url, "FW_API_001");
+    }
+    
+    public static ApiException deserializationFailed(String url, String type, Throwable cause) {
+        return new ApiException("Failed to deserialize response of " + url + " to " + type, cause, url, "FW_API_002");
+    }
+    
+    public static ApiException unexpectedStatus(String method, String url, int expected, int actual, String body) {
+        return new ApiException(String.format("Unexpected status for %s %s: expected %d but was %d. Body: %s",
+            method, url, expected, actual, body), url, actual, "FW_API_003");
+    }
+    
+    public static ApiException serializationFailed(String url, Throwable cause) {
+        return new ApiException("Failed to serialize request body for " + url, cause, url, "FW_API_004");
+    }
+}
@@ -41,4 +41,8 @@ public class BrowserException extends FrameworkException {
     public static BrowserException browserLaunchFailed(String browserType, Throwable cause) {
         return new BrowserException("Failed to launch browser: " + browserType, cause, "FW_BROWSER_005");
     }
+    
+    public static BrowserException harNotFound(String harPath) {
+        return new BrowserException("HAR recording not found for strict replay: " + harPath, "FW_BROWSER_006");
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.starlettech.exceptions;
 
+import java.util.List;
+
 /**
  * Exception thrown for page-related errors (UI operations)
  */
@@ -75,6 +77,15 @@ public class PageException extends FrameworkException {
         return new PageException("Failed to type in element: " + selector, cause, selector);
     }
     
+    public static PageException invalidSelector(String selector, String pageName, String reason) {
+        return new PageException("Invalid selector in " + pageName + ": " + selector + " (" + reason + ")", selector, pageName);
+    }
+
+    public static PageException invalidSelectors(String pageName, List<String> fieldErrors) {
+        return new PageException(fieldErrors.size() + " invalid @Selector field(s) in " + pageName + ": "
+            + String.join("; ", fieldErrors), (String) null, pageName);
+    }
+    
     public static PageException waitTimeout(String selector, int timeoutMs) {
         return new PageException(
             String.format("Wait timeout (%dms) for element: %s", timeoutMs, selector), 
@@ -6,6 +6,8 @@ import org.testng.ITestResult;
 
 import com.starlettech.core.TestAnnotationProcessor;
 import com.starlettech.core.TestAnnotationProcessor.TestExecutionContext;
+import com.starlettech.core.metrics.PhaseTimer;
+import com.starlettech.core.metrics.TestPhase;
 import com.starlettech.utils.AllureUtils;
 
 import io.qameta.allure.testng.AllureTestNg;
@@ -26,6 +28,7 @@ public class AllureTestNGEnhancedListener extends AllureTestNg {
     
     @Override
     public void onTestStart(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             // Process custom annotations and add to Allure before calling super
             TestExecutionContext context = TestAnnotationProcessor.processPreTestAnnotations(result);
@@ -44,14 +47,18 @@ public class AllureTestNGEnhancedListener extends AllureTestNg {
                 result.getMethod().getMethodName(), e.getMessage(), e);
             // Still call super to ensure Allure processing continues
             super.onTestStart(result);
+        } finally {
+            timer.close();
         }
     }
     
     @Override
     public void onTestSuccess(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             // Process post-test annotations
             TestAnnotationProcessor.processPostTestAnnotations(result);
+            allureUtils.attachSystemMetrics(result);
             
             logger.debug("Test succeeded: {}", result.getMethod().getMethodName());
             
@@ -62,11 +69,14 @@ public class AllureTestNGEnhancedListener extends AllureTestNg {
             logger.error("Error in onTestSuccess for test: {} - Error: {}", 
                 result.getMethod().getMethodName(), e.getMessage(), e);
             super.onTestSuccess(result);
+        } finally {
+            timer.close();
         }
     }
     
     @Override
     public void onTestFailure(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             // Attach screenshot before calling super
             allureUtils.attachScreenshotOnFailure(result);
@@ -81,6 +91,7 @@ public class AllureTestNGEnhancedListener extends AllureTestNg {
             
             // Process post-test annotations
             TestAnnotationProcessor.processPostTestAnnotations(result);
+            allureUtils.attachSystemMetrics(result);
             
             logger.debug("Test failed: {} - Reason: {}", 
                 result.getMethod().getMethodName(), 
@@ -93,11 +104,14 @@ public class AllureTestNGEnhancedListener extends AllureTestNg {
             logger.error("Error in onTestFailure for test: {} - Error: {}", 
                 result.getMethod().getMethodName(), e.getMessage(), e);
             super.onTestFailure(result);
+        } finally {
+            timer.close();
         }
     }
     
     @Override
     public void onTestSkipped(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             // Process post-test annotations
             TestAnnotationProcessor.processPostTestAnnotations(result);
@@ -119,6 +133,8 @@ public class AllureTestNGEnhancedListener extends AllureTestNg {
             logger.error("Error in onTestSkipped for test: {} - Error: {}", 
                 result.getMethod().getMethodName(), e.getMessage(), e);
             super.onTestSkipped(result);
+        } finally {
+            timer.close();
         }
     }
     
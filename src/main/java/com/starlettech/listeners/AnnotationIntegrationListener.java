@@ -8,6 +8,8 @@ import org.testng.ITestResult;
 import com.starlettech.core.TestAnnotationProcessor;
 import com.starlettech.core.TestAnnotationProcessor.TestExecutionContext;
 import com.starlettech.core.TestAnnotationProcessor.TestExecutionResult;
+import com.starlettech.core.metrics.PhaseTimer;
+import com.starlettech.core.metrics.TestPhase;
 
 /**
  * TestNG listener for comprehensive annotation integration
@@ -17,6 +19,7 @@ public class AnnotationIntegrationListener implements ITestListener {
 
     @Override
     public void onTestStart(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             logger.info("Starting annotation processing for test: {}", result.getMethod().getMethodName());
             
@@ -33,11 +36,14 @@ public class AnnotationIntegrationListener implements ITestListener {
         } catch (Exception e) {
             logger.error("Failed to process annotations for test start: {} - Error: {}", 
                         result.getMethod().getMethodName(), e.getMessage());
+        } finally {
+            timer.close();
         }
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             logger.info("Processing post-test annotations for successful test: {}", result.getMethod().getMethodName());
             
@@ -50,11 +56,14 @@ public class AnnotationIntegrationListener implements ITestListener {
         } catch (Exception e) {
             logger.error("Failed to process annotations for test success: {} - Error: {}", 
                         result.getMethod().getMethodName(), e.getMessage());
+        } finally {
+            timer.close();
         }
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             logger.info("Processing post-test annotations for failed test: {}", result.getMethod().getMethodName());
             
@@ -67,11 +76,14 @@ public class AnnotationIntegrationListener implements ITestListener {
         } catch (Exception e) {
             logger.error("Failed to process annotations for test failure: {} - Error: {}", 
                         result.getMethod().getMethodName(), e.getMessage());
+        } finally {
+            timer.close();
         }
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             logger.info("Processing annotations for skipped test: {}", result.getMethod().getMethodName());
             
@@ -84,6 +96,8 @@ public class AnnotationIntegrationListener implements ITestListener {
         } catch (Exception e) {
             logger.error("Failed to process annotations for test skip: {} - Error: {}", 
                         result.getMethod().getMethodName(), e.getMessage());
+        } finally {
+            timer.close();
         }
     }
 
@@ -167,9 +181,16 @@ public class AnnotationIntegrationListener implements ITestListener {
             logger.info("  - Requests: {}", metrics.getRequestCount());
             logger.info("  - Avg Response Time: {:.2f}ms", metrics.getAverageResponseTime());
             logger.info("  - Max Response Time: {}ms", metrics.getMaxResponseTime());
+            logger.info("  - Response Time Percentiles: {}", metrics.getPercentileSummary());
+            logger.info("  - Error Rate: {}%", String.format("%.2f", metrics.getErrorRate() * 100));
             logger.info("  - Throughput: {:.2f} req/s", metrics.getThroughput());
+            if (metrics.hasQueueingDelay()) {
+                logger.info("  - Queueing Delay: {}", metrics.getQueueingDelaySummary());
+            }
             logger.info("  - Max CPU Usage: {:.2f}%", metrics.getMaxCpuUsage());
             logger.info("  - Max Memory Usage: {}MB", metrics.getMaxMemoryUsage());
+            logger.info("  - Max Browser Memory: {}MB ({} samples)", metrics.getSystemMetrics().getMaxChildRssMb(),
+                       metrics.getSystemMetrics().getSampleCount());
             logger.info("  - Performance Status: {}", perfResult.isPassed() ? "✅ PASSED" : "❌ FAILED");
             
             if (!perfResult.isPassed()) {
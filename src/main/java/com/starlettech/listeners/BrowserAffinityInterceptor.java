@@ -0,0 +1,62 @@
+package com.starlettech.listeners;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.starlettech.config.BrowserConfig;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.TestAnnotationProcessor;
+import com.starlettech.enums.BrowserType;
+import com.starlettech.enums.TestOrder;
+
+/**
+ * Groups test methods by the BrowserType they run on (browser.affinity).
+ * Workers running at the same time then mostly need the same type, so BrowserPool can hand
+ * them idle browsers of that type instead of switching one. This only orders methods; which
+ * worker gets which browser is decided by BrowserPool.
+ * Groups keep the order of their first method and methods keep their relative order.
+ * When test.order is set, its global order wins and methods are not regrouped; BrowserPool
+ * still matches workers to idle browsers of the right type.
+ */
+public class BrowserAffinityInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(BrowserAffinityInterceptor.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!BrowserConfig.getInstance().isBrowserAffinity() || methods.size() < 2) {
+            return methods;
+        }
+        if (TestConfig.getInstance().getTestOrder() != TestOrder.NONE) {
+            // Regrouping would keep LONGEST_FIRST or FAIL_FAST only within each browser group
+            logger.debug("Skipping browser grouping of '{}': test.order is {}", context.getName(),
+                TestConfig.getInstance().getTestOrder());
+            return methods;
+        }
+
+        Map<BrowserType, List<IMethodInstance>> groups = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            BrowserType browserType = TestAnnotationProcessor.resolveBrowserType(
+                method.getConstructorOrMethod().getMethod(), method.getRealClass());
+            groups.computeIfAbsent(browserType, k -> new ArrayList<>()).add(instance);
+        }
+        if (groups.size() < 2) {
+            return methods;
+        }
+
+        List<IMethodInstance> result = new ArrayList<>(methods.size());
+        groups.values().forEach(result::addAll);
+        logger.info("Grouped {} methods of '{}' by browser: {}", result.size(), context.getName(),
+            groups.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue().size()).toList());
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.starlettech.listeners;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.ImpactAnalyzer;
+import com.starlettech.core.ImpactAnalyzer.ChangeSet;
+import com.starlettech.core.metrics.TestHistory;
+import com.starlettech.core.metrics.TestHistoryStore;
+import com.starlettech.enums.ImpactFallback;
+
+/**
+ * Runs only tests affected by the current change (impact.selection), for pull request builds.
+ * A method is kept when its class depends on a changed Java source, when it failed in the last
+ * impact.failure.window runs, or when it has no recorded history yet. Without any test history
+ * (history disabled, or a fresh CI agent) impact.no.history decides between the full suite and the
+ * impacted tests only. Changes to non-Java files that are not ignored, changed classes declaring
+ * constants javac may have inlined elsewhere, or an unknown change set keep the full suite.
+ */
+public class ImpactSelectionInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(ImpactSelectionInterceptor.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        TestConfig config = TestConfig.getInstance();
+        if (!config.isImpactSelection() || methods.isEmpty()) {
+            return methods;
+        }
+        ChangeSet changes = ImpactAnalyzer.getChangeSet();
+        if (!changes.isSelective()) {
+            logger.info("Impact selection disabled for '{}': {}", context.getName(),
+                changes.isKnown() ? "non-Java changes " + changes.getOtherFiles() : "change set unknown");
+            return methods;
+        }
+
+        ClassLoader loader = methods.get(0).getMethod().getRealClass().getClassLoader();
+        List<String> constantSources = ImpactAnalyzer.findInlinedConstantSources(changes,
+            loader != null ? loader : ClassLoader.getSystemClassLoader());
+        if (!constantSources.isEmpty()) {
+            logger.info("Impact selection disabled for '{}': changed constants may be inlined into any class {}",
+                context.getName(), constantSources);
+            return methods;
+        }
+
+        TestHistoryStore history = TestHistoryStore.getInstance();
+        boolean hasHistory = history.isEnabled() && history.getLoadedRuns() > 0;
+        if (!hasHistory) {
+            ImpactFallback fallback = config.getImpactNoHistory();
+            logger.warn("No test history for '{}', so new and recently failed tests cannot be identified; "
+                + "impact.no.history={}", context.getName(), fallback);
+            if (fallback == ImpactFallback.ALL) {
+                return methods;
+            }
+        }
+
+        Map<Class<?>, Boolean> affectedClasses = new HashMap<>();
+        List<IMethodInstance> result = new ArrayList<>();
+        int byChange = 0;
+        int byHistory = 0;
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            Class<?> testClass = method.getRealClass();
+            if (affectedClasses.computeIfAbsent(testClass, type -> ImpactAnalyzer.isAffected(type, changes))) {
+                result.add(instance);
+                byChange++;
+                continue;
+            }
+            if (!hasHistory) {
+                continue;
+            }
+            TestHistory testHistory = history.getHistory(
+                TestHistoryStore.keyOf(testClass.getName(), method.getMethodName()));
+            if (testHistory == null || testHistory.getRecentFailures(config.getImpactFailureWindow()) > 0) {
+                result.add(instance);
+                byHistory++;
+            }
+        }
+
+        logger.info("Impact selection for '{}': {} of {} methods ({} affected by changes, {} new or recently failed)",
+            context.getName(), result.size(), methods.size(), byChange, byHistory);
+        return result;
+    }
+}
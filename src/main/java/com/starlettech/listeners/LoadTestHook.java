@@ -0,0 +1,59 @@
+package com.starlettech.listeners;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ITestResult;
+
+import com.starlettech.annotations.PerformanceTest;
+import com.starlettech.annotations.PerformanceTest.LoadModel;
+import com.starlettech.core.handler.LoadGenerator;
+import com.starlettech.core.handler.LoadGenerator.LoadResult;
+import com.starlettech.core.handler.PerformanceTestHandler;
+
+/**
+ * Runs the body of @PerformanceTest(load = ...) methods as a load test instead of once.
+ * The test fails only when every request failed; thresholds are checked by PerformanceTestHandler.
+ */
+public class LoadTestHook implements IHookable {
+    public static final String LOAD_RESULT_ATTRIBUTE = "loadResult";
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        Method method = testResult.getMethod().getConstructorOrMethod().getMethod();
+        PerformanceTest settings = PerformanceTestHandler.getPerformanceAnnotation(method);
+        if (settings == null || settings.load() == LoadModel.NONE) {
+            callBack.runTestMethod(testResult);
+            return;
+        }
+
+        Object instance = testResult.getInstance();
+        Object[] parameters = testResult.getParameters();
+        LoadResult result = LoadGenerator.run(method, () -> invoke(method, instance, parameters));
+        testResult.setAttribute(LOAD_RESULT_ATTRIBUTE, result);
+        if (result.getIterations() > 0 && result.getErrors() == result.getIterations()) {
+            throw new AssertionError("All " + result.getIterations() + " load requests failed", result.getFirstError());
+        }
+        // The body ran through LoadGenerator instead of the callback, which TestNG would otherwise report as not invoked
+        testResult.setStatus(ITestResult.SUCCESS);
+    }
+
+    private static void invoke(Method method, Object instance, Object[] parameters) {
+        try {
+            method.invoke(instance, parameters);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot invoke test method " + method.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.starlettech.listeners;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.QuarantineManager;
+import com.starlettech.core.metrics.TestHistoryStore;
+
+/**
+ * Moves quarantined tests to the end of the method order, behind all other methods of the same test run,
+ * and reports their failures as skipped so they stay visible in reports without failing the build
+ * (quarantine.enabled). They share the run's threads; register after the other method interceptors so
+ * they stay last.
+ */
+public class QuarantineListener implements IMethodInterceptor, IInvokedMethodListener {
+    private static final Logger logger = LogManager.getLogger(QuarantineListener.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!TestConfig.getInstance().isQuarantineEnabled() || methods.isEmpty()) {
+            return methods;
+        }
+        List<IMethodInstance> regular = new ArrayList<>();
+        List<IMethodInstance> quarantined = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            boolean isQuarantined = QuarantineManager.isQuarantined(method.getRealClass(),
+                method.getConstructorOrMethod().getMethod());
+            (isQuarantined ? quarantined : regular).add(instance);
+        }
+        if (!quarantined.isEmpty()) {
+            logger.info("Quarantine for '{}': {} of {} methods moved to the end of the order", context.getName(),
+                quarantined.size(), methods.size());
+        }
+        regular.addAll(quarantined);
+        return regular;
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        ITestNGMethod testMethod = testResult.getMethod();
+        if (!QuarantineManager.isQuarantined(testMethod.getRealClass(), testMethod.getConstructorOrMethod().getMethod())) {
+            return;
+        }
+        testResult.setAttribute(QuarantineManager.QUARANTINED_ATTRIBUTE, true);
+        testResult.setStatus(ITestResult.SKIP);
+        QuarantineManager.recordQuarantinedFailure(
+            TestHistoryStore.keyOf(testMethod.getRealClass().getName(), testMethod.getMethodName()));
+        logger.warn("Quarantined test '{}' failed; reported as skipped: {}", testMethod.getMethodName(),
+            testResult.getThrowable() != null ? testResult.getThrowable().getMessage() : "no exception");
+    }
+}
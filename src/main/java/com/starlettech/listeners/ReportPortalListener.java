@@ -1,6 +1,8 @@
 package com.starlettech.listeners;
 
 import java.io.File;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
@@ -18,6 +20,9 @@ import com.starlettech.annotations.TestInfo;
 import com.starlettech.config.ReportPortalConfig;
 import com.starlettech.core.TestAnnotationProcessor;
 import com.starlettech.core.handler.PerformanceTestHandler;
+import com.starlettech.core.metrics.PhaseTimer;
+import com.starlettech.core.metrics.TestPhase;
+import com.starlettech.utils.ScreenshotStrategy;
 import com.starlettech.utils.ScreenshotUtils;
 
 /**
@@ -40,6 +45,7 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
         super.onTestStart(result);
 
         if (rpConfig.isEnable()) {
+            PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
             try {
                 // Use centralized annotation processor
                 TestAnnotationProcessor.TestExecutionContext context = TestAnnotationProcessor.processPreTestAnnotations(result);
@@ -56,6 +62,8 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
                 logger.debug("ReportPortal test start logged for: {}", result.getMethod().getMethodName());
             } catch (Exception e) {
                 logger.error("Failed to log test start to ReportPortal: {}", e.getMessage());
+            } finally {
+                timer.close();
             }
         }
     }
@@ -63,6 +71,7 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         if (rpConfig.isEnable()) {
+            PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
             try {
                 String endTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                 long duration = result.getEndMillis() - result.getStartMillis();
@@ -82,9 +91,15 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
                         ReportPortal.emitLog("  - Requests: " + perfResult.getMetrics().getRequestCount(), "INFO", Calendar.getInstance().getTime());
                         ReportPortal.emitLog("  - Avg Response Time: " + String.format("%.2f", perfResult.getMetrics().getAverageResponseTime()) + "ms", "INFO", Calendar.getInstance().getTime());
                         ReportPortal.emitLog("  - Max Response Time: " + perfResult.getMetrics().getMaxResponseTime() + "ms", "INFO", Calendar.getInstance().getTime());
+                        ReportPortal.emitLog("  - Response Time Percentiles: " + perfResult.getMetrics().getPercentileSummary(), "INFO", Calendar.getInstance().getTime());
+                        ReportPortal.emitLog("  - Error Rate: " + String.format("%.2f", perfResult.getMetrics().getErrorRate() * 100) + "%", "INFO", Calendar.getInstance().getTime());
                         ReportPortal.emitLog("  - Throughput: " + String.format("%.2f", perfResult.getMetrics().getThroughput()) + " req/s", "INFO", Calendar.getInstance().getTime());
+                        if (perfResult.getMetrics().hasQueueingDelay()) {
+                            ReportPortal.emitLog("  - Queueing Delay: " + perfResult.getMetrics().getQueueingDelaySummary(), "INFO", Calendar.getInstance().getTime());
+                        }
                         ReportPortal.emitLog("  - Max CPU Usage: " + String.format("%.2f", perfResult.getMetrics().getMaxCpuUsage()) + "%", "INFO", Calendar.getInstance().getTime());
                         ReportPortal.emitLog("  - Max Memory Usage: " + perfResult.getMetrics().getMaxMemoryUsage() + "MB", "INFO", Calendar.getInstance().getTime());
+                        attachSystemMetricsToReportPortal(result);
                         
                         if (!perfResult.isPassed()) {
                             ReportPortal.emitLog("⚠️ Performance violations detected:", "WARN", Calendar.getInstance().getTime());
@@ -100,6 +115,8 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
                 logger.debug("ReportPortal test success logged for: {}", result.getMethod().getMethodName());
             } catch (Exception e) {
                 logger.error("Failed to log test success to ReportPortal: {}", e.getMessage());
+            } finally {
+                timer.close();
             }
         }
 
@@ -109,6 +126,7 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
     @Override
     public void onTestFailure(ITestResult result) {
         if (rpConfig.isEnable()) {
+            PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
             try {
                 String endTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                 long duration = result.getEndMillis() - result.getStartMillis();
@@ -126,10 +144,13 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
 
                 // Attach screenshot if available
                 attachScreenshotToReportPortal(result);
+                attachSystemMetricsToReportPortal(result);
 
                 logger.debug("ReportPortal test failure logged for: {}", result.getMethod().getMethodName());
             } catch (Exception e) {
                 logger.error("Failed to log test failure to ReportPortal: {}", e.getMessage());
+            } finally {
+                timer.close();
             }
         }
 
@@ -139,6 +160,7 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
     @Override
     public void onTestSkipped(ITestResult result) {
         if (rpConfig.isEnable()) {
+            PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
             try {
                 ReportPortal.emitLog("⏭️ Test skipped", "WARN", Calendar.getInstance().getTime());
 
@@ -149,6 +171,8 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
                 logger.debug("ReportPortal test skip logged for: {}", result.getMethod().getMethodName());
             } catch (Exception e) {
                 logger.error("Failed to log test skip to ReportPortal: {}", e.getMessage());
+            } finally {
+                timer.close();
             }
         }
 
@@ -224,12 +248,34 @@ public class ReportPortalListener extends ReportPortalTestNGListener {
         }
     }
 
+    /**
+     * Attach the system metrics time series of a @PerformanceTest as a JSON file
+     */
+    private void attachSystemMetricsToReportPortal(ITestResult result) {
+        try {
+            Method testMethod = result.getMethod().getConstructorOrMethod().getMethod();
+            if (PerformanceTestHandler.getPerformanceAnnotation(testMethod) == null) {
+                return;
+            }
+            PerformanceTestHandler.PerformanceResult perfResult = PerformanceTestHandler.stopPerformanceMonitoring(testMethod);
+            if (perfResult != null) {
+                File seriesFile = File.createTempFile(testMethod.getName() + "-system-metrics", ".json");
+                seriesFile.deleteOnExit();
+                Files.writeString(seriesFile.toPath(), perfResult.getMetrics().getSystemMetrics().toJson());
+                ReportPortal.emitLog("System metrics time series", "INFO", Calendar.getInstance().getTime(), seriesFile);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to attach system metrics to ReportPortal: {}", e.getMessage());
+        }
+    }
+
     /**
      * Attach screenshot to ReportPortal
      */
     private void attachScreenshotToReportPortal(ITestResult result) {
         try {
-            String screenshotPath = screenshotUtils.takeScreenshot(result.getMethod().getMethodName() + "_failure");
+            String screenshotPath = screenshotUtils.takeScreenshot(result.getMethod().getMethodName() + "_failure",
+                ScreenshotStrategy.forTestMethod(result.getMethod().getConstructorOrMethod().getMethod()));
             if (screenshotPath != null) {
                 File screenshotFile = new File(screenshotPath);
                 if (screenshotFile.exists()) {
@@ -0,0 +1,111 @@
+package com.starlettech.listeners;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.base.BasePage;
+import com.starlettech.exceptions.PageException;
+
+/**
+ * Validates the @Selector fields of every page object in selector.validation.packages when the suite
+ * starts (selector.validation.enabled), so a typo fails the run before any browser is launched instead
+ * of in the first test that constructs the page. All invalid selectors are reported together.
+ */
+public class SelectorValidationListener implements ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(SelectorValidationListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        TestConfig config = TestConfig.getInstance();
+        if (!config.isSelectorValidationEnabled()) {
+            return;
+        }
+        if (config.getSelectorValidationPackages().isEmpty()) {
+            logger.warn("Selector validation is enabled but selector.validation.packages is empty");
+            return;
+        }
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        List<String> errors = new ArrayList<>();
+        int validated = 0;
+        for (String packageName : config.getSelectorValidationPackages()) {
+            for (String className : findClasses(packageName, loader)) {
+                Class<?> type;
+                try {
+                    type = Class.forName(className, false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    logger.debug("Skipping {}: {}", className, e.getMessage());
+                    continue;
+                }
+                if (!BasePage.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers())) {
+                    continue;
+                }
+                try {
+                    BasePage.validateSelectors(type.asSubclass(BasePage.class));
+                    validated++;
+                } catch (PageException e) {
+                    errors.add(e.getMessage());
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new PageException("Selector validation failed: " + String.join("; ", errors));
+        }
+        logger.info("Validated @Selector fields of {} page objects", validated);
+    }
+
+    /**
+     * Names of all classes in a package and its subpackages, from directories and jars on the class path
+     */
+    private static TreeSet<String> findClasses(String packageName, ClassLoader loader) {
+        String path = packageName.replace('.', '/');
+        TreeSet<String> classNames = new TreeSet<>();
+        try {
+            for (URL url : Collections.list(loader.getResources(path))) {
+                if ("file".equals(url.getProtocol())) {
+                    Path root = Paths.get(url.toURI());
+                    try (Stream<Path> files = Files.walk(root)) {
+                        files.map(file -> root.relativize(file).toString().replace('\\', '/'))
+                            .filter(name -> name.endsWith(".class"))
+                            .forEach(name -> classNames.add(toClassName(path + "/" + name)));
+                    }
+                } else if ("jar".equals(url.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) url.openConnection();
+                    connection.setUseCaches(false);
+                    try (JarFile jar = connection.getJarFile()) {
+                        jar.stream()
+                            .map(JarEntry::getName)
+                            .filter(name -> name.startsWith(path + "/") && name.endsWith(".class"))
+                            .forEach(name -> classNames.add(toClassName(name)));
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new PageException("Failed to scan package " + packageName + " for page objects", e);
+        }
+        return classNames;
+    }
+
+    private static String toClassName(String resource) {
+        return resource.substring(0, resource.length() - ".class".length()).replace('/', '.');
+    }
+}
@@ -0,0 +1,130 @@
+package com.starlettech.listeners;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.ShardPlanner;
+import com.starlettech.core.ShardPlanner.Shard;
+import com.starlettech.core.metrics.TestHistoryStore;
+import com.starlettech.exceptions.ConfigurationException;
+
+/**
+ * Runs one duration-balanced shard of the suite, selected with -Dshard.index and -Dshard.total.
+ * Durations come only from the explicit -Dshard.history snapshot, never from the local history
+ * directory, which differs between CI nodes and changes as sibling shards write or prune segments;
+ * with the same snapshot (or none) every JVM plans the same split and keeps only its own methods.
+ * Classes with method dependencies stay together in one shard.
+ */
+public class ShardMethodInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(ShardMethodInterceptor.class);
+    private static final long DEFAULT_DURATION_MS = 1_000;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        TestConfig config = TestConfig.getInstance();
+        int total = config.getShardTotal();
+        if (total <= 1 || methods.isEmpty()) {
+            return methods;
+        }
+        int index = config.getShardIndex();
+        if (index < 0 || index >= total) {
+            throw ConfigurationException.invalidProperty("shard.index", "integer between 0 and " + (total - 1));
+        }
+
+        List<Unit> units = toUnits(methods, loadDurations(config.getShardHistory()));
+        long defaultDuration = medianKnownDuration(units);
+        List<Shard<Unit>> shards = ShardPlanner.plan(units,
+            unit -> unit.estimatedDurationMs >= 0 ? unit.estimatedDurationMs : defaultDuration,
+            unit -> unit.key, total);
+
+        Set<IMethodInstance> selected = new HashSet<>();
+        for (Unit unit : shards.get(index).getUnits()) {
+            selected.addAll(unit.methods);
+        }
+        // Keep TestNG's original relative order for the selected methods
+        List<IMethodInstance> result = new ArrayList<>(selected.size());
+        for (IMethodInstance method : methods) {
+            if (selected.contains(method)) {
+                result.add(method);
+            }
+        }
+
+        logger.info("Shard {}/{} of '{}': {} of {} methods, estimated {}ms (all shards: {})",
+            index + 1, total, context.getName(), result.size(), methods.size(),
+            shards.get(index).getEstimatedDurationMs(),
+            shards.stream().map(shard -> shard.getEstimatedDurationMs() + "ms").toList());
+        return result;
+    }
+
+    private Map<String, Long> loadDurations(String snapshot) {
+        if (snapshot == null || snapshot.isBlank()) {
+            logger.warn("No shard.history snapshot given; balancing shards by test count");
+            return Map.of();
+        }
+        try {
+            return TestHistoryStore.readDurationSnapshot(Paths.get(snapshot));
+        } catch (IOException e) {
+            // Falling back would let this shard plan differently from its siblings
+            throw ConfigurationException.loadError(snapshot, e);
+        }
+    }
+
+    private List<Unit> toUnits(List<IMethodInstance> methods, Map<String, Long> durations) {
+        Set<Class<?>> dependentClasses = new HashSet<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+                dependentClasses.add(method.getRealClass());
+            }
+        }
+
+        Map<String, Unit> units = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            String className = method.getRealClass().getName();
+            String methodKey = TestHistoryStore.keyOf(className, method.getMethodName());
+            String unitKey = dependentClasses.contains(method.getRealClass()) ? className : methodKey;
+
+            Unit unit = units.computeIfAbsent(unitKey, Unit::new);
+            unit.methods.add(instance);
+            Long estimate = durations.get(methodKey);
+            if (estimate != null && estimate >= 0) {
+                unit.estimatedDurationMs = Math.max(0, unit.estimatedDurationMs)
+                    + estimate * Math.max(1, method.getInvocationCount());
+            }
+        }
+        return new ArrayList<>(units.values());
+    }
+
+    private long medianKnownDuration(List<Unit> units) {
+        long[] known = units.stream().mapToLong(unit -> unit.estimatedDurationMs).filter(d -> d >= 0).sorted().toArray();
+        return known.length > 0 ? known[known.length / 2] : DEFAULT_DURATION_MS;
+    }
+
+    /**
+     * Methods that must run in the same shard
+     */
+    private static class Unit {
+        private final String key;
+        private final List<IMethodInstance> methods = new ArrayList<>();
+        private long estimatedDurationMs = -1;
+
+        Unit(String key) {
+            this.key = key;
+        }
+    }
+}
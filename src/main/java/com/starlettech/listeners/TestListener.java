@@ -6,6 +6,9 @@ import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import com.starlettech.core.RetryAnalyzer;
+import com.starlettech.core.metrics.PhaseTimer;
+import com.starlettech.core.metrics.TestPhase;
+import com.starlettech.utils.ScreenshotStrategy;
 import com.starlettech.utils.ScreenshotUtils;
 
 /**
@@ -46,9 +49,11 @@ public class TestListener implements ITestListener {
         logger.error("Failure reason: {}", result.getThrowable().getMessage());
 
         // Take screenshot on failure
+        PhaseTimer timer = PhaseTimer.start(TestPhase.REPORTING);
         try {
             String screenshotPath = screenshotUtils.takeScreenshot(
-                result.getMethod().getMethodName() + "_failure");
+                result.getMethod().getMethodName() + "_failure",
+                ScreenshotStrategy.forTestMethod(result.getMethod().getConstructorOrMethod().getMethod()));
             if (screenshotPath != null) {
                 logger.info("Screenshot captured for failed test: {}", screenshotPath);
                 // Set screenshot path as system property for ReportPortal
@@ -56,6 +61,8 @@ public class TestListener implements ITestListener {
             }
         } catch (Exception e) {
             logger.error("Failed to capture screenshot: {}", e.getMessage());
+        } finally {
+            timer.close();
         }
     }
 
@@ -0,0 +1,123 @@
+package com.starlettech.listeners;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.starlettech.annotations.TestCategory;
+import com.starlettech.config.TestConfig;
+import com.starlettech.core.TestMetricsCollector;
+import com.starlettech.core.metrics.TestHistory;
+import com.starlettech.core.metrics.TestHistoryStore;
+import com.starlettech.enums.TestOrder;
+
+/**
+ * Reorders test methods from recorded history (test.order):
+ * LONGEST_FIRST schedules the longest tests first to shorten the makespan of parallel runs,
+ * FAIL_FAST schedules recently failed and flaky tests first for quick feedback.
+ * TestCategory.riskLevel breaks ties, higher risk first.
+ */
+public class TestOrderingInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(TestOrderingInterceptor.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        TestConfig config = TestConfig.getInstance();
+        TestOrder order = config.getTestOrder();
+        if (order == TestOrder.NONE || methods.size() < 2) {
+            return methods;
+        }
+
+        List<Ranked> ranked = new ArrayList<>(methods.size());
+        Set<String> failedThisSession = failedThisSession();
+        for (IMethodInstance instance : methods) {
+            ranked.add(rank(instance, failedThisSession, config.getTestOrderFailureWindow()));
+        }
+        long defaultDuration = medianKnownDuration(ranked);
+
+        Comparator<Ranked> byDuration = Comparator.comparingLong(
+            (Ranked r) -> r.durationMs >= 0 ? r.durationMs : defaultDuration).reversed();
+        Comparator<Ranked> byRisk = Comparator.comparingInt((Ranked r) -> r.risk.ordinal()).reversed();
+        Comparator<Ranked> comparator = switch (order) {
+            case LONGEST_FIRST -> byDuration.thenComparing(byRisk);
+            case FAIL_FAST -> Comparator.comparingInt((Ranked r) -> r.failurePriority).reversed()
+                .thenComparing(byRisk)
+                .thenComparing(byDuration.reversed());
+            case NONE -> throw new IllegalStateException("Unreachable");
+        };
+        // List.sort is stable, so equal methods keep TestNG's original order
+        ranked.sort(comparator);
+
+        List<IMethodInstance> result = new ArrayList<>(ranked.size());
+        for (Ranked r : ranked) {
+            result.add(r.instance);
+        }
+        logger.info("Ordered {} methods of '{}' by {}", result.size(), context.getName(), order);
+        return result;
+    }
+
+    private Ranked rank(IMethodInstance instance, Set<String> failedThisSession, int failureWindow) {
+        ITestNGMethod method = instance.getMethod();
+        Class<?> testClass = method.getRealClass();
+        TestHistory history = TestHistoryStore.getInstance()
+            .getHistory(TestHistoryStore.keyOf(testClass.getName(), method.getMethodName()));
+        TestCategory category = getTestCategory(method.getConstructorOrMethod().getMethod(), testClass);
+
+        Ranked ranked = new Ranked(instance);
+        ranked.durationMs = history != null ? history.getP50() : -1;
+        ranked.risk = category != null ? category.riskLevel() : TestCategory.Risk.MEDIUM;
+        if (failedThisSession.contains(testClass.getSimpleName() + "." + method.getMethodName())) {
+            ranked.failurePriority = 3;
+        } else if (history != null && history.getRecentFailures(failureWindow) > 0) {
+            ranked.failurePriority = 2;
+        } else if (category != null && category.isFlaky()) {
+            ranked.failurePriority = 1;
+        }
+        return ranked;
+    }
+
+    /**
+     * Failures recorded earlier in this JVM, e.g. by a previous &lt;test&gt; of the suite
+     */
+    private Set<String> failedThisSession() {
+        Set<String> failed = new HashSet<>();
+        for (TestMetricsCollector.TestFailure failure : TestMetricsCollector.getRecentFailures()) {
+            failed.add(failure.getClassName() + "." + failure.getTestName());
+        }
+        return failed;
+    }
+
+    private TestCategory getTestCategory(Method method, Class<?> testClass) {
+        TestCategory category = method != null ? method.getAnnotation(TestCategory.class) : null;
+        return category != null ? category : testClass.getAnnotation(TestCategory.class);
+    }
+
+    private long medianKnownDuration(List<Ranked> ranked) {
+        long[] known = ranked.stream().mapToLong(r -> r.durationMs).filter(d -> d >= 0).sorted().toArray();
+        return known.length > 0 ? known[known.length / 2] : 0;
+    }
+
+    /**
+     * Ordering keys of one method
+     */
+    private static class Ranked {
+        private final IMethodInstance instance;
+        private long durationMs;
+        private TestCategory.Risk risk;
+        private int failurePriority;
+
+        Ranked(IMethodInstance instance) {
+            this.instance = instance;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Properties;
@@ -17,6 +18,7 @@ import com.starlettech.annotations.SecurityTest;
 import com.starlettech.annotations.TestCategory;
 import com.starlettech.annotations.TestInfo;
 import com.starlettech.core.TestAnnotationProcessor.TestExecutionContext;
+import com.starlettech.core.handler.PerformanceTestHandler;
 import com.starlettech.enums.TestPriority;
 
 import io.qameta.allure.Allure;
@@ -118,7 +120,12 @@ public class AllureUtils {
         Allure.label("test.type", "performance");
         Allure.label("performance.type", perfTest.type().name());
         
-        Allure.parameter("Max Response Time", perfTest.maxResponseTime() + "ms");
+        Allure.parameter("Max Response Time (p99)", perfTest.maxResponseTime() + "ms");
+        addThreshold("p90 Response Time", perfTest.p90ResponseTime());
+        addThreshold("p95 Response Time", perfTest.p95ResponseTime());
+        addThreshold("p99 Response Time", perfTest.p99ResponseTime());
+        addThreshold("p99.9 Response Time", perfTest.p999ResponseTime());
+        Allure.parameter("Max Error Rate", perfTest.maxErrorRate() + "%");
         Allure.parameter("Concurrent Users", String.valueOf(perfTest.concurrentUsers()));
         Allure.parameter("Duration", perfTest.duration() + "s");
         Allure.parameter("Max CPU Usage", perfTest.maxCpuUsage() + "%");
@@ -126,6 +133,12 @@ public class AllureUtils {
         Allure.parameter("Expected Throughput", String.valueOf(perfTest.expectedThroughput()));
     }
     
+    private void addThreshold(String name, long thresholdMs) {
+        if (thresholdMs > 0) {
+            Allure.parameter(name, thresholdMs + "ms");
+        }
+    }
+    
     /**
      * Process @SecurityTest annotation for Allure
      */
@@ -176,22 +189,41 @@ public class AllureUtils {
      */
     public void attachScreenshotOnFailure(ITestResult result) {
         try {
+            // Captured in memory only; Allure writes the attachment itself
             ScreenshotUtils screenshotUtils = new ScreenshotUtils();
-            String screenshotPath = screenshotUtils.takeScreenshot(
-                result.getMethod().getMethodName() + "_failure");
+            ScreenshotStrategy strategy = ScreenshotStrategy.forTestMethod(
+                result.getMethod().getConstructorOrMethod().getMethod());
+            byte[] screenshot = screenshotUtils.captureBuffer(strategy);
             
-            if (screenshotPath != null && Files.exists(Paths.get(screenshotPath))) {
-                byte[] screenshot = Files.readAllBytes(Paths.get(screenshotPath));
-                Allure.addAttachment("Screenshot on Failure", "image/png", 
-                    new ByteArrayInputStream(screenshot), ".png");
+            if (screenshot != null) {
+                Allure.addAttachment("Screenshot on Failure", strategy.getFormat().getMimeType(), 
+                    new ByteArrayInputStream(screenshot), "." + strategy.getFormat().getExtension());
                 
-                logger.info("Screenshot attached to Allure report: {}", screenshotPath);
+                logger.info("Screenshot attached to Allure report: {} ({} bytes)", strategy, screenshot.length);
             }
         } catch (Exception e) {
             logger.error("Failed to attach screenshot to Allure: {}", e.getMessage(), e);
         }
     }
     
+    /**
+     * Attach the system metrics time series of a @PerformanceTest as chart-ready JSON
+     */
+    public void attachSystemMetrics(ITestResult result) {
+        try {
+            Method testMethod = result.getMethod().getConstructorOrMethod().getMethod();
+            if (PerformanceTestHandler.getPerformanceAnnotation(testMethod) == null) {
+                return;
+            }
+            PerformanceTestHandler.PerformanceResult perfResult = PerformanceTestHandler.stopPerformanceMonitoring(testMethod);
+            if (perfResult != null) {
+                attachJson("System Metrics", perfResult.getMetrics().getSystemMetrics().toJson());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to attach system metrics to Allure: {}", e.getMessage());
+        }
+    }
+    
     /**
      * Attach text content to Allure report
      */
@@ -1,6 +1,7 @@
 package com.starlettech.utils;
 
 import com.starlettech.config.TestConfig;
+import com.starlettech.core.metrics.events.DatabaseQueryEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -83,7 +84,8 @@ public class DatabaseUtils {
     public static List<Map<String, Object>> executeQuery(String connectionName, String sql, Object... parameters) throws SQLException {
         List<Map<String, Object>> results = new ArrayList<>();
         
-        try (Connection connection = getConnection(connectionName);
+        try (DatabaseQueryEvent event = DatabaseQueryEvent.start(connectionName, sql);
+             Connection connection = getConnection(connectionName);
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             // Set parameters
@@ -106,6 +108,7 @@ public class DatabaseUtils {
                 }
             }
             
+            event.setRows(results.size());
             logger.debug("Query returned {} rows", results.size());
         }
         
@@ -123,7 +126,8 @@ public class DatabaseUtils {
      * Execute SQL update with specific connection
      */
     public static int executeUpdate(String connectionName, String sql, Object... parameters) throws SQLException {
-        try (Connection connection = getConnection(connectionName);
+        try (DatabaseQueryEvent event = DatabaseQueryEvent.start(connectionName, sql);
+             Connection connection = getConnection(connectionName);
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             // Set parameters
@@ -133,6 +137,7 @@ public class DatabaseUtils {
             
             int rowsAffected = statement.executeUpdate();
             connection.commit();
+            event.setRows(rowsAffected);
             
             logger.debug("Update affected {} rows", rowsAffected);
             return rowsAffected;
@@ -150,7 +155,8 @@ public class DatabaseUtils {
      * Execute batch updates with specific connection
      */
     public static int[] executeBatch(String connectionName, String sql, List<Object[]> parametersList) throws SQLException {
-        try (Connection connection = getConnection(connectionName);
+        try (DatabaseQueryEvent event = DatabaseQueryEvent.start(connectionName, sql);
+             Connection connection = getConnection(connectionName);
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             logger.debug("Executing batch: {} with {} parameter sets", sql, parametersList.size());
@@ -162,6 +168,7 @@ public class DatabaseUtils {
             
             int[] results = statement.executeBatch();
             connection.commit();
+            event.setRows(parametersList.size());
             
             logger.debug("Batch execution completed");
             return results;
@@ -0,0 +1,153 @@
+package com.starlettech.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.microsoft.playwright.options.BoundingBox;
+
+/**
+ * State of one element captured in a single browser round trip by ElementUtils.getElementSnapshot(s)
+ */
+public class ElementSnapshot {
+
+    /**
+     * Page function mapping elements to plain objects; the argument lists CSS properties to capture
+     */
+    static final String SNAPSHOT_SCRIPT =
+        "(elements, cssProperties) => elements.map(el => {" +
+        "  const rect = el.getBoundingClientRect();" +
+        "  const style = getComputedStyle(el);" +
+        "  const formControl = ['BUTTON', 'INPUT', 'SELECT', 'TEXTAREA', 'OPTION', 'OPTGROUP'].includes(el.tagName);" +
+        "  const disabled = (formControl && (el.disabled || !!el.closest('fieldset[disabled]')))" +
+        "    || el.closest('[aria-disabled=\"true\"]') !== null;" +
+        "  const attributes = {};" +
+        "  for (const attr of el.attributes) { attributes[attr.name] = attr.value; }" +
+        "  const styles = {};" +
+        "  for (const property of cssProperties) { styles[property] = style.getPropertyValue(property); }" +
+        "  return {" +
+        "    tagName: el.tagName.toLowerCase()," +
+        "    text: el.textContent," +
+        "    innerText: el instanceof HTMLElement ? el.innerText : el.textContent," +
+        "    value: 'value' in el ? String(el.value) : null," +
+        "    visible: rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden'," +
+        "    enabled: !disabled," +
+        "    checked: el.checked === true || el.getAttribute('aria-checked') === 'true'," +
+        "    inViewport: rect.top >= 0 && rect.left >= 0 && rect.bottom <= window.innerHeight && rect.right <= window.innerWidth," +
+        "    x: rect.x, y: rect.y, width: rect.width, height: rect.height," +
+        "    attributes: attributes," +
+        "    styles: styles" +
+        "  };" +
+        "})";
+
+    private final int index;
+    private final boolean present;
+    private final String tagName;
+    private final String text;
+    private final String innerText;
+    private final String value;
+    private final boolean visible;
+    private final boolean enabled;
+    private final boolean checked;
+    private final boolean inViewport;
+    private final BoundingBox boundingBox;
+    private final Map<String, String> attributes;
+    private final Map<String, String> styles;
+
+    private ElementSnapshot(int index, boolean present, String tagName, String text, String innerText, String value,
+                            boolean visible, boolean enabled, boolean checked, boolean inViewport,
+                            BoundingBox boundingBox, Map<String, String> attributes, Map<String, String> styles) {
+        this.index = index;
+        this.present = present;
+        this.tagName = tagName;
+        this.text = text;
+        this.innerText = innerText;
+        this.value = value;
+        this.visible = visible;
+        this.enabled = enabled;
+        this.checked = checked;
+        this.inViewport = inViewport;
+        this.boundingBox = boundingBox;
+        this.attributes = attributes;
+        this.styles = styles;
+    }
+
+    /**
+     * Snapshot of an element that does not exist
+     */
+    static ElementSnapshot absent() {
+        return new ElementSnapshot(-1, false, null, "", "", null, false, false, false, false, null, Map.of(), Map.of());
+    }
+
+    /**
+     * Build a snapshot from one object returned by {@link #SNAPSHOT_SCRIPT}
+     */
+    static ElementSnapshot fromMap(int index, Map<?, ?> map) {
+        BoundingBox box = new BoundingBox();
+        box.x = number(map.get("x"));
+        box.y = number(map.get("y"));
+        box.width = number(map.get("width"));
+        box.height = number(map.get("height"));
+        boolean visible = Boolean.TRUE.equals(map.get("visible"));
+        return new ElementSnapshot(index, true,
+            (String) map.get("tagName"),
+            map.get("text") != null ? (String) map.get("text") : "",
+            map.get("innerText") != null ? (String) map.get("innerText") : "",
+            (String) map.get("value"),
+            visible,
+            Boolean.TRUE.equals(map.get("enabled")),
+            Boolean.TRUE.equals(map.get("checked")),
+            Boolean.TRUE.equals(map.get("inViewport")),
+            visible ? box : null,
+            strings(map.get("attributes")),
+            strings(map.get("styles")));
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0.0;
+    }
+
+    private static Map<String, String> strings(Object value) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((key, entry) -> result.put(String.valueOf(key), entry != null ? String.valueOf(entry) : null));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Attribute value, or null when the attribute is not set
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Computed CSS value of a property requested when taking the snapshot
+     */
+    public String getCssValue(String property) {
+        return styles.get(property);
+    }
+
+    @Override
+    public String toString() {
+        return present
+            ? String.format("ElementSnapshot{index=%d, tag=%s, visible=%s, enabled=%s, text='%s'}", index, tagName, visible, enabled, text)
+            : "ElementSnapshot{absent}";
+    }
+
+    // Getters
+    public int getIndex() { return index; }
+    public boolean isPresent() { return present; }
+    public String getTagName() { return tagName; }
+    public String getText() { return text; }
+    public String getInnerText() { return innerText; }
+    public String getValue() { return value; }
+    public boolean isVisible() { return visible; }
+    public boolean isEnabled() { return enabled; }
+    public boolean isChecked() { return checked; }
+    public boolean isInViewport() { return inViewport; }
+    public BoundingBox getBoundingBox() { return boundingBox; }
+    public Map<String, String> getAttributes() { return attributes; }
+    public Map<String, String> getStyles() { return styles; }
+}
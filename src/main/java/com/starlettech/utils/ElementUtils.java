@@ -1,6 +1,8 @@
 package com.starlettech.utils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -10,13 +12,32 @@ import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.BoundingBox;
 import com.microsoft.playwright.options.SelectOption;
+import com.starlettech.config.TestConfig;
 import com.starlettech.core.managers.PlaywrightManager;
+import com.starlettech.core.metrics.events.ElementActionEvent;
 
 /**
  * Utility class for element operations
  */
 public class ElementUtils {
     private static final Logger logger = LogManager.getLogger(ElementUtils.class);
+    private static final String STABLE_BOUNDING_BOX_SCRIPT =
+        "(el, timeout) => new Promise(resolve => {" +
+        "  const deadline = performance.now() + timeout;" +
+        "  const timer = setTimeout(() => resolve(false), timeout);" +
+        "  let last = null;" +
+        "  const check = () => {" +
+        "    if (!el.isConnected) { clearTimeout(timer); return resolve(false); }" +
+        "    const r = el.getBoundingClientRect();" +
+        "    if (last && r.x === last.x && r.y === last.y && r.width === last.width && r.height === last.height) {" +
+        "      clearTimeout(timer); return resolve(true);" +
+        "    }" +
+        "    if (performance.now() > deadline) { return; }" +
+        "    last = r;" +
+        "    requestAnimationFrame(check);" +
+        "  };" +
+        "  requestAnimationFrame(check);" +
+        "})";
 
     /**
      * Get current page instance
@@ -33,12 +54,15 @@ public class ElementUtils {
      * Check if element exists
      */
     public static boolean isElementPresent(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("isElementPresent", selector);
         try {
             Page page = getPage();
             return page.locator(selector).count() > 0;
         } catch (Exception e) {
             logger.debug("Element not present: {}", selector);
             return false;
+        } finally {
+            event.close();
         }
     }
 
@@ -46,12 +70,15 @@ public class ElementUtils {
      * Check if element is visible
      */
     public static boolean isElementVisible(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("isElementVisible", selector);
         try {
             Page page = getPage();
             return page.isVisible(selector);
         } catch (Exception e) {
             logger.debug("Element not visible: {}", selector);
             return false;
+        } finally {
+            event.close();
         }
     }
 
@@ -59,12 +86,15 @@ public class ElementUtils {
      * Check if element is enabled
      */
     public static boolean isElementEnabled(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("isElementEnabled", selector);
         try {
             Page page = getPage();
             return page.isEnabled(selector);
         } catch (Exception e) {
             logger.debug("Element not enabled: {}", selector);
             return false;
+        } finally {
+            event.close();
         }
     }
 
@@ -72,12 +102,15 @@ public class ElementUtils {
      * Check if element is checked (for checkboxes/radio buttons)
      */
     public static boolean isElementChecked(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("isElementChecked", selector);
         try {
             Page page = getPage();
             return page.isChecked(selector);
         } catch (Exception e) {
             logger.debug("Element not checked: {}", selector);
             return false;
+        } finally {
+            event.close();
         }
     }
 
@@ -85,12 +118,15 @@ public class ElementUtils {
      * Get element text content
      */
     public static String getElementText(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getElementText", selector);
         try {
             Page page = getPage();
             return page.textContent(selector);
         } catch (Exception e) {
             logger.error("Failed to get text from element {}: {}", selector, e.getMessage());
             return "";
+        } finally {
+            event.close();
         }
     }
 
@@ -98,12 +134,15 @@ public class ElementUtils {
      * Get element inner text
      */
     public static String getElementInnerText(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getElementInnerText", selector);
         try {
             Page page = getPage();
             return page.innerText(selector);
         } catch (Exception e) {
             logger.error("Failed to get inner text from element {}: {}", selector, e.getMessage());
             return "";
+        } finally {
+            event.close();
         }
     }
 
@@ -111,12 +150,15 @@ public class ElementUtils {
      * Get element attribute value
      */
     public static String getElementAttribute(String selector, String attribute) {
+        ElementActionEvent event = ElementActionEvent.start("getElementAttribute", selector);
         try {
             Page page = getPage();
             return page.getAttribute(selector, attribute);
         } catch (Exception e) {
             logger.error("Failed to get attribute {} from element {}: {}", attribute, selector, e.getMessage());
             return "";
+        } finally {
+            event.close();
         }
     }
 
@@ -124,12 +166,15 @@ public class ElementUtils {
      * Get element CSS property value
      */
     public static String getElementCssValue(String selector, String property) {
+        ElementActionEvent event = ElementActionEvent.start("getElementCssValue", selector);
         try {
             Page page = getPage();
             return page.locator(selector).evaluate("el => getComputedStyle(el).getPropertyValue('" + property + "')").toString();
         } catch (Exception e) {
             logger.error("Failed to get CSS property {} from element {}: {}", property, selector, e.getMessage());
             return "";
+        } finally {
+            event.close();
         }
     }
 
@@ -137,6 +182,7 @@ public class ElementUtils {
      * Get all elements matching selector
      */
     public static List<Locator> getAllElements(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getAllElements", selector);
         try {
             Page page = getPage();
             Locator locator = page.locator(selector);
@@ -147,6 +193,8 @@ public class ElementUtils {
         } catch (Exception e) {
             logger.error("Failed to get all elements for selector {}: {}", selector, e.getMessage());
             return List.of();
+        } finally {
+            event.close();
         }
     }
 
@@ -154,12 +202,50 @@ public class ElementUtils {
      * Get element count
      */
     public static int getElementCount(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getElementCount", selector);
         try {
             Page page = getPage();
             return page.locator(selector).count();
         } catch (Exception e) {
             logger.error("Failed to get element count for selector {}: {}", selector, e.getMessage());
             return 0;
+        } finally {
+            event.close();
+        }
+    }
+
+    /**
+     * Get visibility, enabled/checked state, texts, value, attributes, bounding box and the given CSS
+     * properties of the first matching element in one browser round trip; absent elements are not awaited
+     */
+    public static ElementSnapshot getElementSnapshot(String selector, String... cssProperties) {
+        List<ElementSnapshot> snapshots = snapshot("getElementSnapshot", selector, getPage().locator(selector).first(), cssProperties);
+        return snapshots.isEmpty() ? ElementSnapshot.absent() : snapshots.get(0);
+    }
+
+    /**
+     * Get the state of all matching elements in one browser round trip, e.g. every row of a table
+     */
+    public static List<ElementSnapshot> getElementSnapshots(String selector, String... cssProperties) {
+        return snapshot("getElementSnapshots", selector, getPage().locator(selector), cssProperties);
+    }
+
+    private static List<ElementSnapshot> snapshot(String action, String selector, Locator locator, String[] cssProperties) {
+        ElementActionEvent event = ElementActionEvent.start(action, selector);
+        try {
+            Object result = locator.evaluateAll(ElementSnapshot.SNAPSHOT_SCRIPT, List.of(cssProperties));
+            List<ElementSnapshot> snapshots = new ArrayList<>();
+            if (result instanceof List<?> elements) {
+                for (Object element : elements) {
+                    snapshots.add(ElementSnapshot.fromMap(snapshots.size(), (Map<?, ?>) element));
+                }
+            }
+            return snapshots;
+        } catch (Exception e) {
+            logger.error("Failed to snapshot elements {}: {}", selector, e.getMessage());
+            return List.of();
+        } finally {
+            event.close();
         }
     }
 
@@ -167,12 +253,15 @@ public class ElementUtils {
      * Select option from dropdown by value
      */
     public static void selectByValue(String selector, String value) {
+        ElementActionEvent event = ElementActionEvent.start("selectByValue", selector);
         try {
             Page page = getPage();
             page.selectOption(selector, new SelectOption().setValue(value));
             logger.info("Selected option by value '{}' from dropdown: {}", value, selector);
         } catch (Exception e) {
             logger.error("Failed to select option by value '{}' from dropdown {}: {}", value, selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -180,12 +269,15 @@ public class ElementUtils {
      * Select option from dropdown by text
      */
     public static void selectByText(String selector, String text) {
+        ElementActionEvent event = ElementActionEvent.start("selectByText", selector);
         try {
             Page page = getPage();
             page.selectOption(selector, new SelectOption().setLabel(text));
             logger.info("Selected option by text '{}' from dropdown: {}", text, selector);
         } catch (Exception e) {
             logger.error("Failed to select option by text '{}' from dropdown {}: {}", text, selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -193,12 +285,15 @@ public class ElementUtils {
      * Select option from dropdown by index
      */
     public static void selectByIndex(String selector, int index) {
+        ElementActionEvent event = ElementActionEvent.start("selectByIndex", selector);
         try {
             Page page = getPage();
             page.selectOption(selector, new SelectOption().setIndex(index));
             logger.info("Selected option by index '{}' from dropdown: {}", index, selector);
         } catch (Exception e) {
             logger.error("Failed to select option by index '{}' from dropdown {}: {}", index, selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -206,12 +301,15 @@ public class ElementUtils {
      * Get selected option text from dropdown
      */
     public static String getSelectedOptionText(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getSelectedOptionText", selector);
         try {
             Page page = getPage();
             return page.locator(selector + " option:checked").textContent();
         } catch (Exception e) {
             logger.error("Failed to get selected option text from dropdown {}: {}", selector, e.getMessage());
             return "";
+        } finally {
+            event.close();
         }
     }
 
@@ -219,12 +317,15 @@ public class ElementUtils {
      * Get all option texts from dropdown
      */
     public static List<String> getAllOptionTexts(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getAllOptionTexts", selector);
         try {
             Page page = getPage();
             return page.locator(selector + " option").allTextContents();
         } catch (Exception e) {
             logger.error("Failed to get all option texts from dropdown {}: {}", selector, e.getMessage());
             return List.of();
+        } finally {
+            event.close();
         }
     }
 
@@ -232,12 +333,15 @@ public class ElementUtils {
      * Scroll element into view
      */
     public static void scrollIntoView(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("scrollIntoView", selector);
         try {
             Page page = getPage();
             page.locator(selector).scrollIntoViewIfNeeded();
             logger.debug("Scrolled element into view: {}", selector);
         } catch (Exception e) {
             logger.error("Failed to scroll element into view {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -245,12 +349,15 @@ public class ElementUtils {
      * Hover over element
      */
     public static void hoverElement(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("hoverElement", selector);
         try {
             Page page = getPage();
             page.hover(selector);
             logger.debug("Hovered over element: {}", selector);
         } catch (Exception e) {
             logger.error("Failed to hover over element {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -258,12 +365,15 @@ public class ElementUtils {
      * Double click element
      */
     public static void doubleClickElement(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("doubleClickElement", selector);
         try {
             Page page = getPage();
             page.dblclick(selector);
             logger.debug("Double clicked element: {}", selector);
         } catch (Exception e) {
             logger.error("Failed to double click element {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -271,12 +381,15 @@ public class ElementUtils {
      * Right click element
      */
     public static void rightClickElement(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("rightClickElement", selector);
         try {
             Page page = getPage();
             page.click(selector, new Page.ClickOptions().setButton(com.microsoft.playwright.options.MouseButton.RIGHT));
             logger.debug("Right clicked element: {}", selector);
         } catch (Exception e) {
             logger.error("Failed to right click element {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -284,12 +397,15 @@ public class ElementUtils {
      * Focus on element
      */
     public static void focusElement(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("focusElement", selector);
         try {
             Page page = getPage();
             page.focus(selector);
             logger.debug("Focused on element: {}", selector);
         } catch (Exception e) {
             logger.error("Failed to focus on element {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -297,12 +413,15 @@ public class ElementUtils {
      * Clear element content
      */
     public static void clearElement(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("clearElement", selector);
         try {
             Page page = getPage();
             page.fill(selector, "");
             logger.debug("Cleared element: {}", selector);
         } catch (Exception e) {
             logger.error("Failed to clear element {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -310,12 +429,15 @@ public class ElementUtils {
      * Upload file to input element
      */
     public static void uploadFile(String selector, String filePath) {
+        ElementActionEvent event = ElementActionEvent.start("uploadFile", selector);
         try {
             Page page = getPage();
             page.setInputFiles(selector, java.nio.file.Paths.get(filePath));
             logger.info("Uploaded file '{}' to element: {}", filePath, selector);
         } catch (Exception e) {
             logger.error("Failed to upload file '{}' to element {}: {}", filePath, selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -323,6 +445,7 @@ public class ElementUtils {
      * Upload multiple files to input element
      */
     public static void uploadFiles(String selector, String[] filePaths) {
+        ElementActionEvent event = ElementActionEvent.start("uploadFiles", selector);
         try {
             Page page = getPage();
             java.nio.file.Path[] paths = java.util.Arrays.stream(filePaths)
@@ -332,6 +455,8 @@ public class ElementUtils {
             logger.info("Uploaded {} files to element: {}", filePaths.length, selector);
         } catch (Exception e) {
             logger.error("Failed to upload files to element {}: {}", selector, e.getMessage());
+        } finally {
+            event.close();
         }
     }
 
@@ -339,12 +464,15 @@ public class ElementUtils {
      * Get element bounding box
      */
     public static BoundingBox getElementBoundingBox(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("getElementBoundingBox", selector);
         try {
             Page page = getPage();
             return page.locator(selector).boundingBox();
         } catch (Exception e) {
             logger.error("Failed to get bounding box for element {}: {}", selector, e.getMessage());
             return null;
+        } finally {
+            event.close();
         }
     }
 
@@ -352,6 +480,7 @@ public class ElementUtils {
      * Check if element is in viewport
      */
     public static boolean isElementInViewport(String selector) {
+        ElementActionEvent event = ElementActionEvent.start("isElementInViewport", selector);
         try {
             Page page = getPage();
             return (Boolean) page.locator(selector).evaluate(
@@ -362,6 +491,8 @@ public class ElementUtils {
         } catch (Exception e) {
             logger.error("Failed to check if element is in viewport {}: {}", selector, e.getMessage());
             return false;
+        } finally {
+            event.close();
         }
     }
 
@@ -369,14 +500,28 @@ public class ElementUtils {
      * Wait for element to be stable (not moving)
      */
     public static void waitForElementToBeStable(String selector) {
+        waitForElementToBeStable(selector, TestConfig.getInstance().getExplicitWait() * 1000);
+    }
+
+    /**
+     * Wait for element to be visible and keep the same bounding box across two consecutive animation frames
+     */
+    public static void waitForElementToBeStable(String selector, int timeoutMs) {
+        ElementActionEvent event = ElementActionEvent.start("waitForElementToBeStable", selector);
         try {
             Page page = getPage();
-            page.locator(selector).waitFor(new Locator.WaitForOptions().setState(com.microsoft.playwright.options.WaitForSelectorState.VISIBLE));
-            // Additional wait for element to be stable
-            Thread.sleep(100);
-            logger.debug("Element is stable: {}", selector);
-        } catch (InterruptedException e) {
-            logger.error("Failed to wait for element to be stable {}: {}", selector, e.getMessage());
+            Locator locator = page.locator(selector);
+            locator.waitFor(new Locator.WaitForOptions()
+                .setState(com.microsoft.playwright.options.WaitForSelectorState.VISIBLE)
+                .setTimeout(timeoutMs));
+            Boolean stable = (Boolean) locator.evaluate(STABLE_BOUNDING_BOX_SCRIPT, timeoutMs);
+            if (Boolean.TRUE.equals(stable)) {
+                logger.debug("Element is stable: {}", selector);
+            } else {
+                logger.warn("Element did not become stable within {}ms: {}", timeoutMs, selector);
+            }
+        } finally {
+            event.close();
         }
     }
 }
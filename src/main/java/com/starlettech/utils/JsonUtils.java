@@ -19,6 +19,13 @@ public class JsonUtils {
             // Ekstra alanlar yüzünden parse patlamasın:
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
+    /**
+     * Shared, pre-configured mapper; thread-safe and expensive to create, so reuse it instead of creating new ones
+     */
+    public static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
     /**
      * Convert object to JSON string
      */
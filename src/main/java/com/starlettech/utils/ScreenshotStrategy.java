@@ -0,0 +1,118 @@
+package com.starlettech.utils;
+
+import java.lang.reflect.Method;
+
+import com.starlettech.annotations.TestCategory;
+import com.starlettech.config.TestConfig;
+import com.starlettech.enums.ScreenshotFormat;
+import com.starlettech.enums.ScreenshotMode;
+
+/**
+ * Immutable description of how a screenshot is captured: area, image format and JPEG quality
+ */
+public final class ScreenshotStrategy {
+    private final ScreenshotMode mode;
+    private final ScreenshotFormat format;
+    private final int quality;
+    private final String selector;
+
+    public ScreenshotStrategy(ScreenshotMode mode, ScreenshotFormat format, int quality, String selector) {
+        if (mode == ScreenshotMode.ELEMENT && (selector == null || selector.isEmpty())) {
+            throw new IllegalArgumentException("ELEMENT screenshot mode requires a selector");
+        }
+        this.mode = mode;
+        this.format = format;
+        this.quality = quality;
+        this.selector = selector;
+    }
+
+    /**
+     * Strategy from the global screenshot.* configuration
+     */
+    public static ScreenshotStrategy fromConfig() {
+        TestConfig config = TestConfig.getInstance();
+        return new ScreenshotStrategy(withoutElement(config.getScreenshotMode()), config.getScreenshotFormat(),
+            config.getScreenshotQuality(), null);
+    }
+
+    /**
+     * Strategy for a test category, falling back to the global configuration
+     */
+    public static ScreenshotStrategy forCategory(TestCategory.Category category) {
+        if (category == null) {
+            return fromConfig();
+        }
+        TestConfig config = TestConfig.getInstance();
+        return new ScreenshotStrategy(withoutElement(config.getScreenshotMode(category.name())),
+            config.getScreenshotFormat(category.name()), config.getScreenshotQuality(), null);
+    }
+
+    /**
+     * Element capture needs a selector, which configuration cannot provide; capture the viewport instead
+     */
+    private static ScreenshotMode withoutElement(ScreenshotMode mode) {
+        return mode == ScreenshotMode.ELEMENT ? ScreenshotMode.VIEWPORT : mode;
+    }
+
+    /**
+     * Strategy for a test method based on its @TestCategory (method level first, then class level)
+     */
+    public static ScreenshotStrategy forTestMethod(Method method) {
+        if (method == null) {
+            return fromConfig();
+        }
+        TestCategory category = method.getAnnotation(TestCategory.class);
+        if (category == null) {
+            category = method.getDeclaringClass().getAnnotation(TestCategory.class);
+        }
+        return forCategory(category != null ? category.value() : null);
+    }
+
+    public static ScreenshotStrategy fullPage() {
+        return new ScreenshotStrategy(ScreenshotMode.FULL_PAGE, ScreenshotFormat.PNG, 0, null);
+    }
+
+    public static ScreenshotStrategy viewport() {
+        return new ScreenshotStrategy(ScreenshotMode.VIEWPORT, ScreenshotFormat.PNG, 0, null);
+    }
+
+    public static ScreenshotStrategy element(String selector) {
+        return new ScreenshotStrategy(ScreenshotMode.ELEMENT, ScreenshotFormat.PNG, 0, selector);
+    }
+
+    /**
+     * Same strategy encoded as JPEG with the given quality (1-100)
+     */
+    public ScreenshotStrategy asJpeg(int quality) {
+        return new ScreenshotStrategy(mode, ScreenshotFormat.JPEG, quality, selector);
+    }
+
+    public ScreenshotStrategy withMode(ScreenshotMode mode) {
+        return new ScreenshotStrategy(mode, format, quality, selector);
+    }
+
+    public ScreenshotMode getMode() {
+        return mode;
+    }
+
+    public ScreenshotFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * JPEG quality, or 0 when the format does not support it
+     */
+    public int getQuality() {
+        return format == ScreenshotFormat.JPEG && quality > 0 && quality <= 100 ? quality : 0;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    @Override
+    public String toString() {
+        return mode + "/" + format + (getQuality() > 0 ? "@" + getQuality() : "")
+            + (selector != null ? "[" + selector + "]" : "");
+    }
+}
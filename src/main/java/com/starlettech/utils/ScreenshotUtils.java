@@ -10,9 +10,15 @@ import java.time.format.DateTimeFormatter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotType;
 import com.starlettech.config.TestConfig;
 import com.starlettech.core.managers.PlaywrightManager;
+import com.starlettech.core.metrics.PhaseTimer;
+import com.starlettech.core.metrics.TestPhase;
+import com.starlettech.enums.ScreenshotFormat;
+import com.starlettech.enums.ScreenshotMode;
 
 /**
  * Utility class for taking screenshots
@@ -55,88 +61,111 @@ public class ScreenshotUtils {
      * Take screenshot with custom name
      */
     public String takeScreenshot(String name) {
-        Page page = PlaywrightManager.getPage();
-        if (page == null) {
-            logger.warn("Page is null, cannot take screenshot");
-            return null;
-        }
-
-        try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String fileName = name + "_" + timestamp + ".png";
-            Path screenshotPath = Paths.get(screenshotDir, fileName);
-
-            page.screenshot(new Page.ScreenshotOptions()
-                .setPath(screenshotPath)
-                .setFullPage(true));
+        return takeScreenshot(name, ScreenshotStrategy.fromConfig());
+    }
 
-            logger.info("Screenshot saved: {}", screenshotPath.toAbsolutePath());
-            return screenshotPath.toString();
-        } catch (Exception e) {
-            logger.error("Failed to take screenshot: {}", e.getMessage());
+    /**
+     * Take screenshot with custom name using the given capture strategy
+     */
+    public String takeScreenshot(String name, ScreenshotStrategy strategy) {
+        byte[] buffer = captureBuffer(strategy);
+        if (buffer == null) {
             return null;
         }
+        String suffix = strategy.getMode() == ScreenshotMode.ELEMENT ? "_element" : "";
+        return saveScreenshot(buffer, name + suffix, strategy.getFormat());
     }
 
     /**
      * Take screenshot of specific element
      */
     public String takeElementScreenshot(String selector, String name) {
+        return takeScreenshot(name, ScreenshotStrategy.element(selector));
+    }
+
+    /**
+     * Take screenshot with custom options. A quality between 1 and 100 switches the encoding to JPEG.
+     */
+    public String takeScreenshot(String name, boolean fullPage, int quality) {
+        ScreenshotStrategy strategy = fullPage ? ScreenshotStrategy.fullPage() : ScreenshotStrategy.viewport();
+        if (quality > 0 && quality <= 100) {
+            strategy = strategy.asJpeg(quality);
+        }
+        return takeScreenshot(name, strategy);
+    }
+
+    /**
+     * Capture screenshot into memory using the configured strategy
+     */
+    public byte[] captureBuffer() {
+        return captureBuffer(ScreenshotStrategy.fromConfig());
+    }
+
+    /**
+     * Capture screenshot into memory without touching disk
+     */
+    public byte[] captureBuffer(ScreenshotStrategy strategy) {
         Page page = PlaywrightManager.getPage();
-        if (page == null) {
-            logger.warn("Page is null, cannot take element screenshot");
+        if (page == null || page.isClosed()) {
+            logger.warn("Page is null, cannot take screenshot");
             return null;
         }
 
+        PhaseTimer timer = PhaseTimer.start(TestPhase.SCREENSHOT);
         try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String fileName = name + "_element_" + timestamp + ".png";
-            Path screenshotPath = Paths.get(screenshotDir, fileName);
-
-            page.locator(selector).screenshot(new com.microsoft.playwright.Locator.ScreenshotOptions()
-                .setPath(screenshotPath));
-
-            logger.info("Element screenshot saved: {}", screenshotPath.toAbsolutePath());
-            return screenshotPath.toString();
+            byte[] buffer;
+            if (strategy.getMode() == ScreenshotMode.ELEMENT) {
+                Locator.ScreenshotOptions options = new Locator.ScreenshotOptions()
+                    .setType(toScreenshotType(strategy.getFormat()));
+                if (strategy.getQuality() > 0) {
+                    options.setQuality(strategy.getQuality());
+                }
+                buffer = page.locator(strategy.getSelector()).screenshot(options);
+            } else {
+                Page.ScreenshotOptions options = new Page.ScreenshotOptions()
+                    .setType(toScreenshotType(strategy.getFormat()))
+                    .setFullPage(strategy.getMode() == ScreenshotMode.FULL_PAGE);
+                if (strategy.getQuality() > 0) {
+                    options.setQuality(strategy.getQuality());
+                }
+                buffer = page.screenshot(options);
+            }
+            logger.debug("Screenshot captured in memory: {} ({} bytes)", strategy, buffer.length);
+            return buffer;
         } catch (Exception e) {
-            logger.error("Failed to take element screenshot: {}", e.getMessage());
+            logger.error("Failed to capture screenshot ({}): {}", strategy, e.getMessage());
             return null;
+        } finally {
+            timer.close();
         }
     }
 
     /**
-     * Take screenshot with custom options
+     * Persist a captured screenshot buffer
      */
-    public String takeScreenshot(String name, boolean fullPage, int quality) {
-        Page page = PlaywrightManager.getPage();
-        if (page == null) {
-            logger.warn("Page is null, cannot take screenshot");
+    public String saveScreenshot(byte[] buffer, String name, ScreenshotFormat format) {
+        if (buffer == null) {
             return null;
         }
 
         try {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String fileName = name + "_" + timestamp + ".png";
+            String fileName = name + "_" + timestamp + "." + format.getExtension();
             Path screenshotPath = Paths.get(screenshotDir, fileName);
+            Files.write(screenshotPath, buffer);
 
-            Page.ScreenshotOptions options = new Page.ScreenshotOptions()
-                .setPath(screenshotPath)
-                .setFullPage(fullPage);
-
-            if (quality > 0 && quality <= 100) {
-                options.setQuality(quality);
-            }
-
-            page.screenshot(options);
-
-            logger.info("Screenshot saved with custom options: {}", screenshotPath.toAbsolutePath());
+            logger.info("Screenshot saved: {}", screenshotPath.toAbsolutePath());
             return screenshotPath.toString();
-        } catch (Exception e) {
-            logger.error("Failed to take screenshot with custom options: {}", e.getMessage());
+        } catch (IOException e) {
+            logger.error("Failed to save screenshot: {}", e.getMessage());
             return null;
         }
     }
 
+    private ScreenshotType toScreenshotType(ScreenshotFormat format) {
+        return format == ScreenshotFormat.JPEG ? ScreenshotType.JPEG : ScreenshotType.PNG;
+    }
+
     /**
      * Get screenshot directory path
      */
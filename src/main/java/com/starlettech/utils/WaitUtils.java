@@ -1,8 +1,10 @@
 package com.starlettech.utils;
 
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
 import com.microsoft.playwright.options.WaitForSelectorState;
 import com.starlettech.config.TestConfig;
+import com.starlettech.core.TestMetricsCollector;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,6 +15,8 @@ import java.util.function.BooleanSupplier;
  */
 public class WaitUtils {
     private static final Logger logger = LogManager.getLogger(WaitUtils.class);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final double BACKOFF_MULTIPLIER = 1.5;
     private final Page page;
     private final TestConfig testConfig;
 
@@ -33,9 +37,9 @@ public class WaitUtils {
      */
     public void waitForVisible(String selector, int timeoutMs) {
         logger.debug("Waiting for element to be visible: {}", selector);
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        timed(() -> page.waitForSelector(selector, new Page.WaitForSelectorOptions()
             .setState(WaitForSelectorState.VISIBLE)
-            .setTimeout(timeoutMs));
+            .setTimeout(timeoutMs)));
     }
 
     /**
@@ -50,9 +54,9 @@ public class WaitUtils {
      */
     public void waitForHidden(String selector, int timeoutMs) {
         logger.debug("Waiting for element to be hidden: {}", selector);
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        timed(() -> page.waitForSelector(selector, new Page.WaitForSelectorOptions()
             .setState(WaitForSelectorState.HIDDEN)
-            .setTimeout(timeoutMs));
+            .setTimeout(timeoutMs)));
     }
 
     /**
@@ -67,9 +71,9 @@ public class WaitUtils {
      */
     public void waitForAttached(String selector, int timeoutMs) {
         logger.debug("Waiting for element to be attached: {}", selector);
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        timed(() -> page.waitForSelector(selector, new Page.WaitForSelectorOptions()
             .setState(WaitForSelectorState.ATTACHED)
-            .setTimeout(timeoutMs));
+            .setTimeout(timeoutMs)));
     }
 
     /**
@@ -84,9 +88,9 @@ public class WaitUtils {
      */
     public void waitForDetached(String selector, int timeoutMs) {
         logger.debug("Waiting for element to be detached: {}", selector);
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        timed(() -> page.waitForSelector(selector, new Page.WaitForSelectorOptions()
             .setState(WaitForSelectorState.DETACHED)
-            .setTimeout(timeoutMs));
+            .setTimeout(timeoutMs)));
     }
 
     /**
@@ -94,7 +98,7 @@ public class WaitUtils {
      */
     public void waitForPageLoad() {
         logger.debug("Waiting for page to load");
-        page.waitForLoadState();
+        timed(() -> page.waitForLoadState());
     }
 
     /**
@@ -102,7 +106,7 @@ public class WaitUtils {
      */
     public void waitForNetworkIdle() {
         logger.debug("Waiting for network to be idle");
-        page.waitForLoadState(com.microsoft.playwright.options.LoadState.NETWORKIDLE);
+        timed(() -> page.waitForLoadState(com.microsoft.playwright.options.LoadState.NETWORKIDLE));
     }
 
     /**
@@ -110,7 +114,7 @@ public class WaitUtils {
      */
     public void waitForDOMContentLoaded() {
         logger.debug("Waiting for DOM content to be loaded");
-        page.waitForLoadState(com.microsoft.playwright.options.LoadState.DOMCONTENTLOADED);
+        timed(() -> page.waitForLoadState(com.microsoft.playwright.options.LoadState.DOMCONTENTLOADED));
     }
 
     /**
@@ -125,7 +129,7 @@ public class WaitUtils {
      */
     public void waitForUrlContains(String text, int timeoutMs) {
         logger.debug("Waiting for URL to contain: {}", text);
-        page.waitForURL("**/*" + text + "*", new Page.WaitForURLOptions().setTimeout(timeoutMs));
+        timed(() -> page.waitForURL("**/*" + text + "*", new Page.WaitForURLOptions().setTimeout(timeoutMs)));
     }
 
     /**
@@ -140,33 +144,91 @@ public class WaitUtils {
      */
     public void waitForTitleContains(String text, int timeoutMs) {
         logger.debug("Waiting for title to contain: {}", text);
-        waitForCondition(() -> page.title().contains(text), timeoutMs);
+        waitForFunction("text => document.title.includes(text)", text, timeoutMs);
     }
 
     /**
-     * Wait for custom condition
+     * Wait until a JavaScript predicate is truthy, evaluated in the browser on every animation frame
+     */
+    public void waitForFunction(String expression) {
+        waitForFunction(expression, null, testConfig.getExplicitWait() * 1000);
+    }
+
+    /**
+     * Wait until a JavaScript predicate called with {@code arg} is truthy, evaluated in the browser on every animation frame
+     */
+    public void waitForFunction(String expression, Object arg, int timeoutMs) {
+        logger.debug("Waiting for function: {}", expression);
+        timed(() -> page.waitForFunction(expression, arg, new Page.WaitForFunctionOptions().setTimeout(timeoutMs)).dispose());
+    }
+
+    /**
+     * Wait for custom condition evaluated in the JVM, polling with backoff from wait.poll.initial.ms up to wait.poll.max.ms.
+     * Prefer {@link #waitForFunction} for conditions on page state, which avoids a browser round trip per poll.
      */
     public void waitForCondition(BooleanSupplier condition, int timeoutMs) {
         logger.debug("Waiting for custom condition");
-        long startTime = System.currentTimeMillis();
-        while (!condition.getAsBoolean()) {
-            if (System.currentTimeMillis() - startTime > timeoutMs) {
-                throw new RuntimeException("Timeout waiting for condition after " + timeoutMs + "ms");
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Wait interrupted", e);
+        long start = System.nanoTime();
+        long deadline = start + timeoutMs * 1_000_000L;
+        long interval = Math.max(1, testConfig.getWaitPollInitialMs());
+        long maxInterval = Math.max(interval, testConfig.getWaitPollMaxMs());
+        boolean satisfied;
+        try {
+            while (!(satisfied = condition.getAsBoolean())) {
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) {
+                    break;
+                }
+                Thread.sleep(Math.min(interval, remainingMs));
+                interval = Math.min(maxInterval, Math.max(interval + 1, (long) (interval * BACKOFF_MULTIPLIER)));
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Wait interrupted", e);
+        }
+        TestMetricsCollector.recordWait(callSite(), System.nanoTime() - start, !satisfied);
+        if (!satisfied) {
+            throw new RuntimeException("Timeout waiting for condition after " + timeoutMs + "ms");
+        }
+    }
+
+    /**
+     * Run a browser-side wait and record its duration for the calling site
+     */
+    private void timed(Runnable wait) {
+        long start = System.nanoTime();
+        boolean timedOut = false;
+        try {
+            wait.run();
+        } catch (TimeoutError e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            TestMetricsCollector.recordWait(callSite(), System.nanoTime() - start, timedOut);
         }
     }
 
     /**
-     * Hard wait (sleep)
+     * First caller outside this class, e.g. LoginPage.login:42
+     */
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !frame.getClassName().equals(WaitUtils.class.getName()))
+            .findFirst()
+            .map(frame -> {
+                String className = frame.getClassName();
+                return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName()
+                    + ":" + frame.getLineNumber();
+            })
+            .orElse("unknown"));
+    }
+
+    /**
+     * Hard wait (sleep); calls are counted per call site and reported in the metrics summary
      */
     public void hardWait(int milliseconds) {
         logger.debug("Hard wait for {} milliseconds", milliseconds);
+        TestMetricsCollector.recordHardWait(callSite(), milliseconds);
         try {
             Thread.sleep(milliseconds);
         } catch (InterruptedException e) {
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.Page;
 import com.starlettech.core.managers.PlaywrightManager;
+import com.starlettech.core.metrics.events.JsonParseEvent;
 import com.starlettech.utils.ElementUtils;
 
 /**
@@ -384,10 +385,14 @@ public final class Assertions {
     }
 
     private static JsonNode rootJson(APIResponse response) {
+        String body = bodyTextSafe(response);
+        JsonParseEvent event = JsonParseEvent.start(body.length());
         try {
-            return MAPPER.readTree(bodyTextSafe(response));
+            return MAPPER.readTree(body);
         } catch (JsonProcessingException t) {
             return null;
+        } finally {
+            event.close();
         }
     }
 
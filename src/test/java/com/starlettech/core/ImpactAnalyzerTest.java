@@ -0,0 +1,62 @@
+package com.starlettech.core;
+
+import java.util.List;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.starlettech.core.ImpactAnalyzer.ChangeSet;
+import com.starlettech.utils.ScreenshotStrategy;
+
+/**
+ * Class file dependency scan and inlined-constant detection
+ */
+public class ImpactAnalyzerTest {
+    private static final ClassLoader LOADER = ImpactAnalyzerTest.class.getClassLoader();
+
+    @Test
+    public void sourceFilesFollowProjectClassesTransitively() {
+        Set<String> sources = ImpactAnalyzer.getSourceFiles(ScreenshotStrategy.class);
+
+        Assert.assertTrue(sources.contains("com/starlettech/utils/ScreenshotStrategy.java"));
+        Assert.assertTrue(sources.contains("com/starlettech/enums/ScreenshotMode.java"), "direct dependency");
+        Assert.assertTrue(sources.contains("com/starlettech/enums/TestOrder.java"), "dependency through TestConfig");
+        Assert.assertTrue(sources.stream().allMatch(source -> source.startsWith("com/starlettech/")),
+            "library classes must not be followed: " + sources);
+    }
+
+    @Test
+    public void changedDependencyAffectsTestClass() {
+        Assert.assertTrue(ImpactAnalyzer.isAffected(ScreenshotStrategy.class,
+            changes("src/main/java/com/starlettech/enums/ScreenshotMode.java")));
+        Assert.assertFalse(ImpactAnalyzer.isAffected(ScreenshotStrategy.class,
+            changes("src/main/java/com/starlettech/core/ShardPlanner.java")));
+    }
+
+    @Test
+    public void changedClassWithNestedConstantsIsReported() {
+        String self = "src/test/java/com/starlettech/core/ImpactAnalyzerTest.java";
+        Assert.assertEquals(ImpactAnalyzer.findInlinedConstantSources(changes(self), LOADER), List.of(self));
+    }
+
+    @Test
+    public void privateConstantsAndMissingClassesAreIgnored() {
+        // TestHistoryStore only has private constants; Deleted.java has no class file
+        ChangeSet changes = changes("src/main/java/com/starlettech/core/metrics/TestHistoryStore.java",
+            "src/main/java/com/starlettech/core/ShardPlanner.java", "src/main/java/com/acme/Deleted.java");
+        Assert.assertEquals(ImpactAnalyzer.findInlinedConstantSources(changes, LOADER), List.of());
+    }
+
+    private static ChangeSet changes(String... javaFiles) {
+        return new ChangeSet(Set.of(javaFiles), Set.of(), true);
+    }
+
+    /**
+     * Values javac copies into every class that reads them
+     */
+    static class Keys {
+        static final String LOGIN_PATH = "/login";
+        static final int TIMEOUT_MS = 5_000;
+    }
+}
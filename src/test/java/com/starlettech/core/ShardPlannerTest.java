@@ -0,0 +1,68 @@
+package com.starlettech.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.starlettech.core.ShardPlanner.Shard;
+
+/**
+ * Longest-processing-time shard packing
+ */
+public class ShardPlannerTest {
+    private static final Map<String, Long> DURATIONS = Map.of(
+        "a", 700L, "b", 600L, "c", 500L, "d", 400L, "e", 300L, "f", 200L, "g", 100L);
+
+    @Test
+    public void unitsAreBalancedAcrossShards() {
+        List<Shard<String>> shards = plan(new ArrayList<>(DURATIONS.keySet()), 2);
+
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0).getEstimatedDurationMs() + shards.get(1).getEstimatedDurationMs(), 2800);
+        // Longest first to the lightest shard: a|b, c->b, d->a, e->a, f->b, g->b
+        Assert.assertEquals(shards.get(0).getEstimatedDurationMs(), 1400);
+        Assert.assertEquals(shards.get(1).getEstimatedDurationMs(), 1400);
+    }
+
+    @Test
+    public void planDoesNotDependOnInputOrder() {
+        List<String> units = new ArrayList<>(DURATIONS.keySet());
+        List<List<String>> expected = plan(units, 3).stream().map(Shard::getUnits).toList();
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            Collections.shuffle(units, random);
+            Assert.assertEquals(plan(units, 3).stream().map(Shard::getUnits).toList(), expected);
+        }
+    }
+
+    @Test
+    public void equalDurationsAreSplitByCount() {
+        List<String> units = List.of("t1", "t2", "t3", "t4", "t5");
+        List<Shard<String>> shards = ShardPlanner.plan(units, unit -> 1000L, unit -> unit, 2);
+
+        Assert.assertEquals(shards.get(0).getUnits(), List.of("t1", "t3", "t5"));
+        Assert.assertEquals(shards.get(1).getUnits(), List.of("t2", "t4"));
+    }
+
+    @Test
+    public void extraShardsStayEmpty() {
+        List<Shard<String>> shards = plan(List.of("a", "b"), 4);
+
+        Assert.assertEquals(shards.stream().filter(shard -> shard.getUnits().isEmpty()).count(), 2L);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shardCountMustBePositive() {
+        plan(List.of("a"), 0);
+    }
+
+    private static List<Shard<String>> plan(List<String> units, int shardCount) {
+        return ShardPlanner.plan(units, DURATIONS::get, unit -> unit, shardCount);
+    }
+}
@@ -0,0 +1,69 @@
+package com.starlettech.core.metrics;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Percentile accuracy of the log-linear latency histogram
+ */
+public class LogLinearHistogramTest {
+
+    @Test
+    public void smallValuesAreExact() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 50);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 99);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100);
+        Assert.assertEquals(histogram.getMean(), 50.5, 1e-9);
+    }
+
+    @Test
+    public void percentilesStayWithinBucketErrorAtAnyMagnitude() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        Random random = new Random(7);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-uniform between 1 and 2^36
+            values[i] = (long) Math.pow(2, random.nextDouble() * 36);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long estimate = histogram.getValueAtPercentile(percentile);
+            Assert.assertTrue(Math.abs(estimate - exact) <= exact * 0.016 + 1,
+                "p" + percentile + ": " + estimate + " vs " + exact);
+        }
+    }
+
+    @Test
+    public void percentilesAreClampedToRecordedRange() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(1000);
+        histogram.record(-5);
+        histogram.record(1L << 50);
+
+        Assert.assertEquals(histogram.getMin(), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(0), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 1L << 50, "values beyond 2^40 land in the top bucket");
+    }
+
+    @Test
+    public void resetClearsAllCounts() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getMin(), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 0);
+    }
+}
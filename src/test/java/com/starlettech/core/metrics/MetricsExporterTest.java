@@ -0,0 +1,57 @@
+package com.starlettech.core.metrics;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Scrapes the embedded OpenMetrics exporter over HTTP
+ */
+public class MetricsExporterTest {
+    private HttpClient client;
+
+    @BeforeMethod
+    public void setUp() {
+        MetricsExporter.start("127.0.0.1", 0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        MetricsExporter.stop();
+    }
+
+    @Test
+    public void servesOpenMetricsText() throws Exception {
+        Assert.assertTrue(MetricsExporter.isRunning());
+        Assert.assertTrue(MetricsExporter.getPort() > 0);
+
+        HttpResponse<String> response = client.send(request().GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        Assert.assertEquals(response.statusCode(), 200);
+        Assert.assertEquals(response.headers().firstValue("Content-Type").orElse(null),
+            "application/openmetrics-text; version=1.0.0; charset=utf-8");
+        String body = response.body();
+        Assert.assertTrue(body.contains("# TYPE playwright_tests_started counter"), body);
+        Assert.assertTrue(body.contains("playwright_test_duration_seconds_bucket{le="), body);
+        Assert.assertTrue(body.endsWith("# EOF\n"), body);
+    }
+
+    @Test
+    public void rejectsOtherMethods() throws Exception {
+        HttpResponse<String> response = client.send(
+            request().POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+        Assert.assertEquals(response.statusCode(), 405);
+    }
+
+    private HttpRequest.Builder request() {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + MetricsExporter.getPort() + "/metrics"));
+    }
+}
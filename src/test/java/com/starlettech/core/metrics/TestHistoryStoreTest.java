@@ -0,0 +1,151 @@
+package com.starlettech.core.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.starlettech.core.TestMetricsCollector.TestResult;
+
+/**
+ * Round trips of the binary history segment format
+ */
+public class TestHistoryStoreTest {
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("test-history");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void recordsAreReadBackInTheNextRun() {
+        TestHistoryStore writer = new TestHistoryStore(true, directory, 10);
+        writer.record("a.Test#one", TestResult.PASSED, 120, 0);
+        writer.record("a.Test#two", TestResult.FAILED, 300, 0);
+        writer.close();
+
+        TestHistoryStore reader = new TestHistoryStore(true, directory, 10);
+        Assert.assertEquals(reader.getLoadedRuns(), 1);
+        Assert.assertEquals(reader.getHistory("a.Test#one").getP50(), 120);
+        Assert.assertEquals(reader.getHistory("a.Test#two").getRunCount(), 1);
+    }
+
+    @Test
+    public void recordsAfterCloseStayInTheSameRun() {
+        TestHistoryStore writer = new TestHistoryStore(true, directory, 10);
+        writer.record("a.Test#one", TestResult.PASSED, 100, 0);
+        writer.close();
+        // A second suite in the same JVM: new keys and an already defined one
+        writer.record("a.Test#two", TestResult.PASSED, 200, 0);
+        writer.record("a.Test#one", TestResult.PASSED, 110, 1);
+        writer.close();
+
+        TestHistoryStore reader = new TestHistoryStore(true, directory, 10);
+        Assert.assertEquals(reader.getLoadedRuns(), 1);
+        Assert.assertNotNull(reader.getHistory("a.Test#two"), "record written after close() was dropped");
+        Assert.assertEquals(reader.getHistory("a.Test#two").getP50(), 200);
+        Assert.assertEquals(reader.getHistory("a.Test#one").getRunCount(), 1);
+        Assert.assertEquals(reader.getHistory("a.Test#one").getP50(), 110);
+    }
+
+    @Test
+    public void oldestRunsArePrunedBeyondMaxRuns() throws InterruptedException {
+        for (int run = 0; run < 4; run++) {
+            TestHistoryStore writer = new TestHistoryStore(true, directory, 3);
+            writer.record("a.Test#one", TestResult.PASSED, 100 + run, 0);
+            writer.close();
+            // Segment names are ordered by start millisecond
+            Thread.sleep(5);
+        }
+
+        TestHistoryStore reader = new TestHistoryStore(true, directory, 3);
+        Assert.assertEquals(reader.getLoadedRuns(), 2);
+        Assert.assertEquals(reader.getHistory("a.Test#one").getRunCount(), 2);
+    }
+
+    @Test
+    public void durationSnapshotHoldsLoadedMedians() throws IOException {
+        TestHistoryStore writer = new TestHistoryStore(true, directory, 10);
+        writer.record("a.Test#one", TestResult.PASSED, 250, 0);
+        writer.close();
+
+        TestHistoryStore reader = new TestHistoryStore(true, directory, 10);
+        reader.writeDurationSnapshot();
+        Map<String, Long> durations = TestHistoryStore.readDurationSnapshot(directory.resolve("durations.json"));
+        Assert.assertEquals(durations, Map.of("a.Test#one", 250L));
+    }
+
+    @Test
+    public void durationSnapshotIncludesThisRun() throws IOException, InterruptedException {
+        for (long duration : new long[] {100, 300}) {
+            TestHistoryStore previous = new TestHistoryStore(true, directory, 10);
+            previous.record("a.Test#one", TestResult.PASSED, duration, 0);
+            previous.close();
+            Thread.sleep(5);
+        }
+
+        TestHistoryStore current = new TestHistoryStore(true, directory, 10);
+        current.record("a.Test#one", TestResult.PASSED, 300, 0);
+        current.record("a.Test#two", TestResult.FAILED, 400, 0);
+        current.close();
+        current.writeDurationSnapshot();
+
+        Map<String, Long> durations = TestHistoryStore.readDurationSnapshot(directory.resolve("durations.json"));
+        Assert.assertEquals(durations.get("a.Test#two"), Long.valueOf(400), "test first seen in this run is missing");
+        // Loaded runs alone have a median of 100; with this run's 300 it is 300
+        Assert.assertEquals(durations.get("a.Test#one"), Long.valueOf(300), "this run's duration was not folded in");
+    }
+
+    @Test
+    public void firstRunWritesASnapshot() throws IOException {
+        TestHistoryStore store = new TestHistoryStore(true, directory, 10);
+        store.record("a.Test#one", TestResult.PASSED, 150, 0);
+        store.close();
+        store.writeDurationSnapshot();
+
+        Assert.assertEquals(TestHistoryStore.readDurationSnapshot(directory.resolve("durations.json")),
+            Map.of("a.Test#one", 150L));
+    }
+
+    @Test
+    public void resultsKeepTheirStoredCodes() throws IOException {
+        TestHistoryStore writer = new TestHistoryStore(true, directory, 10);
+        writer.record("a.Test#one", TestResult.SKIPPED, 10, 0);
+        writer.close();
+
+        // header: magic, version, start time, run id; then KEY record, then RESULT tag, key id and result code
+        byte[] segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = Files.readAllBytes(files.findFirst().orElseThrow());
+        }
+        int header = 4 + 2 + 8 + 2 + 8;
+        int keyRecord = 1 + 4 + 2 + "a.Test#one".length();
+        Assert.assertEquals(segment[header + keyRecord + 1 + 4], 2, "SKIPPED must be stored as code 2");
+    }
+
+    @Test
+    public void disabledStoreWritesNothing() throws IOException {
+        TestHistoryStore writer = new TestHistoryStore(false, directory, 10);
+        writer.record("a.Test#one", TestResult.PASSED, 100, 0);
+        writer.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(files.count(), 0L);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.starlettech.core.network;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.starlettech.utils.JsonUtils;
+
+/**
+ * Merging per-context HAR recordings into a shared @Har file
+ */
+public class HarManagerTest {
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("har-test");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void contextsSharingANameAreMerged() throws IOException {
+        Path har = directory.resolve("shared.har");
+        Files.writeString(har, recording("stale"));
+
+        HarManager.merge(part("first"), har);
+        HarManager.merge(part("second"), har);
+
+        JsonNode entries = JsonUtils.getObjectMapper().readTree(har.toFile()).path("log").path("entries");
+        Assert.assertEquals(entries.size(), 2, "first merge replaces the previous run, later merges append");
+        Assert.assertEquals(entries.get(0).path("request").path("url").asText(), "https://example.com/first");
+        Assert.assertEquals(entries.get(1).path("request").path("url").asText(), "https://example.com/second");
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(files.count(), 1, "part files are deleted after merging");
+        }
+    }
+
+    @Test
+    public void unsavedRecordingLeavesHarUntouched() throws IOException {
+        Path har = directory.resolve("unsaved.har");
+        Files.writeString(har, recording("kept"));
+        Path empty = Files.createTempFile(directory, "unsaved.har", ".part");
+
+        HarManager.merge(empty, har);
+
+        Assert.assertEquals(Files.readString(har), recording("kept"));
+        Assert.assertFalse(Files.exists(empty));
+    }
+
+    private Path part(String name) throws IOException {
+        Path part = Files.createTempFile(directory, name, ".part");
+        Files.writeString(part, recording(name));
+        return part;
+    }
+
+    private static String recording(String name) {
+        return "{\"log\":{\"version\":\"1.2\",\"pages\":[],\"entries\":[{\"request\":{\"url\":\"https://example.com/"
+            + name + "\"}}]}}";
+    }
+}
@@ -0,0 +1,45 @@
+package com.starlettech.core.network;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Which responses the shared asset cache may store
+ */
+public class StaticAssetCacheTest {
+
+    @Test
+    public void publicAssetIsStorable() {
+        Assert.assertTrue(StaticAssetCache.isStorable(Map.of("cache-control", "public, max-age=600")));
+        Assert.assertTrue(StaticAssetCache.isStorable(Map.of()));
+    }
+
+    @Test
+    public void responsesSettingCookiesAreNotStored() {
+        Assert.assertFalse(StaticAssetCache.isStorable(Map.of("set-cookie", "session=abc")));
+    }
+
+    @Test
+    public void privateAndNoStoreAreNotStored() {
+        Assert.assertFalse(StaticAssetCache.isStorable(Map.of("cache-control", "private, max-age=600")));
+        Assert.assertFalse(StaticAssetCache.isStorable(Map.of("cache-control", "No-Store")));
+    }
+
+    @Test
+    public void onlyAcceptEncodingVaryIsStored() {
+        Assert.assertTrue(StaticAssetCache.isStorable(Map.of("vary", "Accept-Encoding")));
+        Assert.assertFalse(StaticAssetCache.isStorable(Map.of("vary", "Accept-Encoding, Cookie")));
+        Assert.assertFalse(StaticAssetCache.isStorable(Map.of("vary", "*")));
+    }
+
+    @Test
+    public void blankPatternsMatchNothing() {
+        Assert.assertNull(StaticAssetCache.combinePatterns(List.of()));
+        Assert.assertNull(StaticAssetCache.combinePatterns(List.of("", "  ")));
+        Assert.assertTrue(StaticAssetCache.combinePatterns(List.of("\\.css$", "\\.JS$"))
+            .matcher("https://example.com/app.js").find());
+    }
+}
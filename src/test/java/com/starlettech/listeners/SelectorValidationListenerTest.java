@@ -0,0 +1,49 @@
+package com.starlettech.listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.starlettech.core.base.BasePage;
+import com.starlettech.exceptions.PageException;
+import com.starlettech.listeners.pages.BrokenPage;
+
+/**
+ * Suite-start validation of page object selectors
+ */
+public class SelectorValidationListenerTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearProperties() {
+        System.clearProperty("selector.validation.enabled");
+        System.clearProperty("selector.validation.packages");
+    }
+
+    @Test
+    public void invalidSelectorFailsSuiteStart() {
+        System.setProperty("selector.validation.enabled", "true");
+        System.setProperty("selector.validation.packages", "com.starlettech.listeners.pages");
+
+        PageException error = Assert.expectThrows(PageException.class,
+            () -> new SelectorValidationListener().onStart(null));
+        Assert.assertTrue(error.getMessage().contains("BrokenPage"), error.getMessage());
+        Assert.assertFalse(error.getMessage().contains("ValidPage"), error.getMessage());
+    }
+
+    @Test
+    public void invalidFieldsAreReportedPerPage() {
+        PageException error = Assert.expectThrows(PageException.class, () -> BasePage.validateSelectors(BrokenPage.class));
+
+        Assert.assertEquals(error.getPageName(), "BrokenPage");
+        Assert.assertNull(error.getSelector());
+        Assert.assertTrue(error.getMessage().contains("1 invalid @Selector field(s) in BrokenPage: unclosed = "),
+            error.getMessage());
+    }
+
+    @Test
+    public void validationIsOffByDefault() {
+        System.setProperty("selector.validation.packages", "com.starlettech.listeners.pages");
+
+        new SelectorValidationListener().onStart(null);
+    }
+}
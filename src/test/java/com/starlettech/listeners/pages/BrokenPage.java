@@ -0,0 +1,13 @@
+package com.starlettech.listeners.pages;
+
+import com.microsoft.playwright.Locator;
+import com.starlettech.annotations.Selector;
+import com.starlettech.core.base.BasePage;
+
+/**
+ * Page object fixture with a selector typo
+ */
+public class BrokenPage extends BasePage {
+    @Selector("div[data-id='x'")
+    private Locator unclosed;
+}
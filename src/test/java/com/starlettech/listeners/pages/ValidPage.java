@@ -0,0 +1,16 @@
+package com.starlettech.listeners.pages;
+
+import com.microsoft.playwright.Locator;
+import com.starlettech.annotations.Selector;
+import com.starlettech.core.base.BasePage;
+
+/**
+ * Page object fixture with valid selectors
+ */
+public class ValidPage extends BasePage {
+    @Selector("#username")
+    private Locator username;
+
+    @Selector("role=button[name='Sign in']")
+    private Locator signIn;
+}